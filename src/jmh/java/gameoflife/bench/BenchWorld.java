@@ -0,0 +1,67 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: BenchWorld.java
+//==========================================================================
+
+package gameoflife.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import gameoflife.SimulationParameters;
+import gameoflife.World;
+
+@State(Scope.Thread)
+public class BenchWorld {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final long SEED = 42; // every benchmark world is placed the same way
+
+	@Param({"40", "400"})
+	public int size; // board is size x size
+
+	@Param({"100", "1000"})
+	public int population; // creatures; strawberries = 2x, mushrooms = 1x
+
+	@Param({"0.00625", "0.025"})
+	public double monsterDensity; // monsters per board cell (the default board has 10 / 1600)
+
+	//==========================================================================
+	// World setup
+	//==========================================================================
+
+	/**
+	 * parameters --- The simulation parameters for the current @Param values.
+	 * Creatures get more life force than the generation has steps, so a
+	 * generation never ends with too few survivors to breed from.
+	 * @param : none
+	 * @return: parameters for a benchmark world
+	 */
+	public SimulationParameters parameters() {
+		SimulationParameters params = new SimulationParameters();
+		params.setRows(size);
+		params.setCols(size);
+		params.setCreaturePopulation(population);
+		params.setStrawberryPopulation(2 * population);
+		params.setMushroomPopulation(population);
+		params.setMonsterPopulation(Math.max(1, (int) Math.round(size * size * monsterDensity)));
+		params.setLifeForce(params.getTime() + 10);
+		return params;
+	}
+
+	/**
+	 * newWorld --- A freshly placed world for the current @Param values.
+	 * @param : none
+	 * @return: a world with its first generation on the board
+	 */
+	public World newWorld() {
+		World world = new World(parameters(), SEED);
+		world.initialBoardInfo();
+		return world;
+	}
+}
@@ -0,0 +1,107 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: DecisionBenchmark.java
+//==========================================================================
+
+package gameoflife.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gameoflife.Creature;
+import gameoflife.CreatureStore;
+import gameoflife.Selection;
+import gameoflife.World;
+
+/**
+ * DecisionBenchmark --- The read-only hot paths: a creature looking around and
+ * choosing an action, and the genetic algorithm picking parents and breeding.
+ * None of these change the board, so one world is placed per trial and the
+ * benchmarks walk its creatures slot by slot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionBenchmark extends BenchWorld {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	@Param({"2", "20"})
+	public int sight; // creature vision range
+
+	private World world;
+	private int[] readings = new int[Creature.SENSES];
+	private Selection parents; // the generation as a parent pool, for breeding
+	private int slot; // next creature to look at
+
+	@Setup(Level.Trial)
+	public void setup() {
+		world = newWorld();
+		world.getParameters().setFastForward(false); // the step never advances here, so every call must really look
+		world.getParameters().setCreatureSight(sight);
+		parents = world.getSelection();
+		parents.prepare(world.getCreatures());
+	}
+
+	private int nextSlot() {
+		if (++slot >= world.getCreatures().size()) {
+			slot = 0;
+		}
+		return slot;
+	}
+
+	//==========================================================================
+	// Benchmarks
+	//==========================================================================
+
+	@Benchmark
+	public double selectAction() {
+		return Creature.selectAction(world, nextSlot(), readings);
+	}
+
+	@Benchmark
+	public int[] sense() {
+		CreatureStore s = world.getCreatures();
+		int i = nextSlot();
+		Creature.sense(world, s.getRow(i), s.getCol(i), readings);
+		return readings;
+	}
+
+	@Benchmark
+	public int creatureVision() {
+		CreatureStore s = world.getCreatures();
+		int i = nextSlot();
+		return Creature.creatureVision(world, s.getRow(i), s.getCol(i), world.getStrawberryLocations());
+	}
+
+	@Benchmark
+	public int prepareParents() {
+		parents.prepare(world.getCreatures()); // once per generation
+		return parents.size();
+	}
+
+	@Benchmark
+	public int pickParent() {
+		return parents.pick(world.getGeneticsRandom());
+	}
+
+	@Benchmark
+	public long nextChromo() {
+		return Creature.nextChromo(world, parents);
+	}
+}
@@ -0,0 +1,51 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: GenerationBenchmark.java
+//==========================================================================
+
+package gameoflife.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gameoflife.SimulationEngine;
+import gameoflife.World;
+
+/**
+ * GenerationBenchmark --- A whole generation: newGeneration (parent selection,
+ * breeding and placement) followed by the full time loop, through the same
+ * SimulationEngine the game uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark extends BenchWorld {
+
+	private SimulationEngine engine;
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		// Start over from a placed world when there are not two parents left to breed from
+		if (engine == null || engine.getWorld().getCreatures().size() < 2) {
+			engine = new SimulationEngine(new World(parameters(), SEED));
+			engine.runGeneration(); // the initial generation; every later call breeds from the survivors
+		}
+	}
+
+	@Benchmark
+	public double newGeneration() {
+		return engine.runGeneration();
+	}
+}
@@ -0,0 +1,83 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: StepBenchmark.java
+//==========================================================================
+
+package gameoflife.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gameoflife.Creature;
+import gameoflife.CreatureStore;
+import gameoflife.Monster;
+import gameoflife.World;
+
+/**
+ * StepBenchmark --- One time step of the creatures (Creature.act for every live
+ * creature) and of the monsters (Monster.monsterMovement for every monster),
+ * each followed by the end of step sweep of the dead, as in SimulationEngine.step.
+ * These change the board, so the world is placed again once a generation's
+ * worth of steps has been taken. That placement runs in setup and is not
+ * timed, but its allocation shows up in -prof gc spread over the steps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepBenchmark extends BenchWorld {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private World world;
+	private int t; // steps taken in the current world
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		if (world == null || t >= world.getParameters().getTime() || world.getCreatures().size() == 0) {
+			world = newWorld();
+			t = 0;
+		}
+		t ++;
+	}
+
+	//==========================================================================
+	// Benchmarks
+	//==========================================================================
+
+	@Benchmark
+	public int act() {
+		CreatureStore creatures = world.getCreatures();
+		for (int i = 0; i < creatures.size(); i ++) {
+			if (!creatures.isDead(i)) {
+				Creature.act(world, i);
+			}
+		}
+		world.removeDead();
+		return creatures.size();
+	}
+
+	@Benchmark
+	public int monsterMovement() {
+		ArrayList<Monster> monsters = world.getMonsterList();
+		for (int m = 0; m < monsters.size(); m ++) {
+			Monster.monsterMovement(world, monsters.get(m));
+		}
+		world.removeDead();
+		return world.getCreatures().size();
+	}
+}
@@ -0,0 +1,418 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 5/10/2015
+// Class: BoardInfo.java
+//==========================================================================
+
+package gameoflife;
+
+import java.net.ServerSocket;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.management.JMException;
+
+public class BoardInfo {
+
+	//totalLifeForce among all items over the entire timespan
+	// (# of creatures * lifeForce) +  (# of strawberries * energy per strawberry) - (time*creature)
+	// (50 * 60) + (100*5) - (50*50)
+	// totalLifeForce = 1000
+
+	//==========================================================================
+	// Usage
+	//==========================================================================
+
+	public static final String USAGE = String.join("\n",
+			"java gameoflife.BoardInfo [options]",
+			"  --headless                  run without any visuals",
+			"  --seed s                    replay a run: every world and island derives its random streams from s",
+			"  --generations n             number of generations (with --restore: n more)",
+			"  --rows r, --cols c          board size (chunked, so 10000 x 10000 is fine headless)",
+			"  --spawn r c                 place everything in an r x c region at the centre",
+			"  --creatures n, --monsters n, --strawberries n, --mushrooms n   starting populations",
+			"  --time n                    steps per generation",
+			"  --life-force n              life force creatures start with",
+			"  --monster-step n            steps between monster moves",
+			"  --sight n, --monster-sight n   how far creatures and monsters see",
+			"  --no-bitboards              vision from plain cell counts instead of bitboards",
+			"  --no-fast-forward           creatures that see nothing look every step anyway (always so without bitboards)",
+			"  --crossover one|two|uniform how children's genes are split between their parents",
+			"  --selection tournament|rank|roulette   how parents are drawn",
+			"  --tournament k              survivors per tournament",
+			"  --telemetry f               per-generation results of every world or island as CSV, in place of console lines",
+			"  --jmx                       phase timings and event counts as the MBean gameoflife:type=Simulation,world=n",
+			"One world (the default):",
+			"  --threads n                 creatures choose their actions on n threads (two-phase step, same result for any n)",
+			"  --checkpoint f              save the whole simulation to f every --checkpoint-every k generations",
+			"  --restore f                 carry on from such a file",
+			"Or one of:",
+			"  --worlds n                  n independent headless worlds, one per thread",
+			"  --islands n                 n populations evolved in parallel, migrating every --migration-interval k",
+			"                              generations --migrants m creatures over --topology ring|full",
+			"  --tiles RxC                 the board split into R x C tiles, each run by a worker process (see TiledSimulation);",
+			"                              with --tile-port p the run waits on port p for workers started by hand",
+			"                              (not with --telemetry or --jmx)",
+			"  --help                      print this");
+
+	//==========================================================================
+	// Start the Program
+	//==========================================================================
+
+	/**
+	 * main --- Initializes objects and starts the game. 
+	 * @param args : A string array containing the command line arguments
+	 * (see USAGE). An unknown option, a missing or bad value, or options that
+	 * do not go together throw IllegalArgumentException.
+	 * @return: none
+	 */ 
+	public static void main(String [ ] args) throws Exception {
+
+		SimulationParameters params = new SimulationParameters();
+		boolean headless = false;
+		int worlds = 1;
+		int threads = 0; // 0 = sequential step
+		String checkpoint = null;
+		int checkpointInterval = 1;
+		String restore = null;
+		String telemetryFile = null;
+		boolean jmx = false;
+		boolean generationsGiven = false;
+		int islands = 0;
+		int migrationInterval = 5;
+		int migrants = 2;
+		IslandModel.Topology topology = IslandModel.Topology.RING;
+		int tileRows = 0; // 0 = one board in this process
+		int tileCols = 0;
+		int tilePort = -1; // -1 = start the tile workers here
+
+		for (int i = 0; i < args.length; i ++) {
+			if (args[i].equals("--help")) {
+				System.out.println(USAGE);
+				return;
+			}
+			else if (args[i].equals("--headless")) {
+				headless = true;
+			}
+			else if (args[i].equals("--no-bitboards")) {
+				params.setBitboards(false);
+			}
+			else if (args[i].equals("--jmx")) {
+				jmx = true;
+			}
+			else if (args[i].equals("--no-fast-forward")) {
+				params.setFastForward(false);
+			}
+			else if (args[i].equals("--generations")) {
+				params.setGenerations(number(args, ++ i));
+				generationsGiven = true;
+			}
+			else if (args[i].equals("--seed")) {
+				params.setSeed(Long.parseLong(value(args, ++ i)));
+			}
+			else if (args[i].equals("--rows")) {
+				params.setRows(number(args, ++ i));
+			}
+			else if (args[i].equals("--cols")) {
+				params.setCols(number(args, ++ i));
+			}
+			else if (args[i].equals("--spawn")) {
+				params.setSpawnRows(number(args, ++ i));
+				params.setSpawnCols(number(args, ++ i));
+			}
+			else if (args[i].equals("--creatures")) {
+				params.setCreaturePopulation(number(args, ++ i));
+			}
+			else if (args[i].equals("--monsters")) {
+				params.setMonsterPopulation(number(args, ++ i));
+			}
+			else if (args[i].equals("--strawberries")) {
+				params.setStrawberryPopulation(number(args, ++ i));
+			}
+			else if (args[i].equals("--mushrooms")) {
+				params.setMushroomPopulation(number(args, ++ i));
+			}
+			else if (args[i].equals("--time")) {
+				params.setTime(number(args, ++ i));
+			}
+			else if (args[i].equals("--life-force")) {
+				params.setLifeForce(number(args, ++ i));
+			}
+			else if (args[i].equals("--monster-step")) {
+				params.setMonsterStep(number(args, ++ i));
+			}
+			else if (args[i].equals("--sight")) {
+				params.setCreatureSight(number(args, ++ i));
+			}
+			else if (args[i].equals("--monster-sight")) {
+				params.setMonsterSight(number(args, ++ i));
+			}
+			else if (args[i].equals("--checkpoint")) {
+				checkpoint = value(args, ++ i);
+			}
+			else if (args[i].equals("--checkpoint-every")) {
+				checkpointInterval = number(args, ++ i);
+			}
+			else if (args[i].equals("--restore")) {
+				restore = value(args, ++ i);
+			}
+			else if (args[i].equals("--telemetry")) {
+				telemetryFile = value(args, ++ i);
+			}
+			else if (args[i].equals("--threads")) {
+				threads = number(args, ++ i);
+			}
+			else if (args[i].equals("--worlds")) {
+				worlds = number(args, ++ i);
+				headless = true; // one window cannot show several worlds
+			}
+			else if (args[i].equals("--islands")) {
+				islands = number(args, ++ i);
+			}
+			else if (args[i].equals("--migration-interval")) {
+				migrationInterval = number(args, ++ i);
+			}
+			else if (args[i].equals("--migrants")) {
+				migrants = number(args, ++ i);
+			}
+			else if (args[i].equals("--crossover")) {
+				int kind = choice(args, ++ i, "one", "two", "uniform");
+				params.setCrossover(kind == 1 ? Genome.Crossover.TWO_POINT
+						: kind == 2 ? Genome.Crossover.UNIFORM : Genome.Crossover.ONE_POINT);
+			}
+			else if (args[i].equals("--selection")) {
+				int kind = choice(args, ++ i, "tournament", "rank", "roulette");
+				params.setSelection(kind == 1 ? Selection.Method.RANK
+						: kind == 2 ? Selection.Method.ROULETTE : Selection.Method.TOURNAMENT);
+			}
+			else if (args[i].equals("--tournament")) {
+				params.setTournamentSize(number(args, ++ i));
+			}
+			else if (args[i].equals("--tiles")) {
+				String size = value(args, ++ i);
+				if (!size.matches("[1-9][0-9]{0,3}x[1-9][0-9]{0,3}")) {
+					throw new IllegalArgumentException("--tiles takes RxC, e.g. 2x2, not " + size);
+				}
+				tileRows = Integer.parseInt(size.substring(0, size.indexOf('x')));
+				tileCols = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+			}
+			else if (args[i].equals("--tile-port")) {
+				tilePort = number(args, ++ i);
+			}
+			else if (args[i].equals("--topology")) {
+				topology = choice(args, ++ i, "ring", "full") == 1 ? IslandModel.Topology.FULLY_CONNECTED : IslandModel.Topology.RING;
+			}
+			else {
+				throw new IllegalArgumentException("unknown option " + args[i] + " (see --help)");
+			}
+		}
+
+		// Several worlds, islands and tiles are each their own kind of run
+		int kinds = (worlds > 1 ? 1 : 0) + (islands > 0 ? 1 : 0) + (tileRows > 0 ? 1 : 0);
+		if (kinds > 1) {
+			throw new IllegalArgumentException("only one of --worlds, --islands and --tiles can be given");
+		}
+		if (kinds > 0 && (threads > 0 || checkpoint != null || restore != null)) {
+			throw new IllegalArgumentException("--threads, --checkpoint and --restore only apply to one world,"
+					+ " not with --worlds, --islands or --tiles");
+		}
+		if (tilePort >= 0 && tileRows == 0) {
+			throw new IllegalArgumentException("--tile-port needs --tiles");
+		}
+		if (tileRows > 0 && jmx) {
+			throw new IllegalArgumentException("--jmx cannot be combined with --tiles");
+		}
+
+		// Tiled runs report through the coordinator only; checked before the writer thread is started
+		if (tileRows > 0 && telemetryFile != null) {
+			throw new IllegalArgumentException("--telemetry cannot be combined with --tiles");
+		}
+
+		Telemetry telemetry = telemetryFile == null ? null : new Telemetry(Paths.get(telemetryFile), 4096);
+
+		if (tileRows > 0) {
+			System.out.println("Seed: " + params.getSeed());
+			TiledSimulation tiled = new TiledSimulation(params, tileRows, tileCols);
+			tiled.addObserver(new ConsoleReporter(""));
+			if (tilePort < 0) {
+				tiled.launch();
+			}
+			else {
+				try (ServerSocket server = new ServerSocket(tilePort)) {
+					System.out.println("Waiting for " + tiled.getGrid().count() + " workers on port " + tilePort);
+					tiled.accept(server);
+				}
+			}
+			double averageFitness = tiled.run();
+			System.out.println("Average fitness per generation: " + averageFitness);
+			System.out.printf("Throughput: %.1f steps/sec, %.2f generations/sec across %d tiles%n",
+					tiled.getStepsPerSecond(), tiled.getGenerationsPerSecond(), tiled.getGrid().count());
+			return;
+		}
+
+		if (islands > 0) {
+			System.out.println("Seed: " + params.getSeed());
+			IslandModel model = new IslandModel(params, islands, migrationInterval, migrants, topology, ForkJoinPool.commonPool());
+			for (int i = 0; i < islands; i ++) {
+				SimulationEngine island = model.getIslands()[i];
+				if (telemetry != null) {
+					island.addObserver(telemetry.reporter(island.getWorld(), i));
+				}
+				if (jmx) {
+					measure(island, i);
+				}
+			}
+			long start = System.nanoTime();
+			double fitness = model.run(params.getGenerations());
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.println("Average fitness over all islands in the final epoch: " + fitness);
+			System.out.printf("Throughput: %.2f generations/sec across %d islands%n",
+					(double) islands * params.getGenerations() / seconds, islands);
+			if (telemetry != null) {
+				telemetry.close();
+			}
+			return;
+		}
+
+		if (worlds == 1) {
+			ForkJoinPool stepPool = threads > 0 ? new ForkJoinPool(threads) : null;
+			SimulationEngine engine;
+
+			if (restore != null) {
+				engine = Checkpoint.restore(Paths.get(restore), stepPool);
+				if (generationsGiven) {
+					engine.setGenerations(engine.getGenerationsTaken() + params.getGenerations());
+				}
+				System.out.println("Restored " + restore + " after generation " + (engine.getGenerationsTaken() - 1));
+			}
+			else {
+				engine = stepPool != null
+						? new SimulationEngine(new World(params), stepPool)
+						: new SimulationEngine(new World(params));
+			}
+			System.out.println("Seed: " + engine.getWorld().getSeed());
+			engine.addObserver(telemetry != null ? telemetry.reporter(engine.getWorld(), 0) : new ConsoleReporter(""));
+
+			if (checkpoint != null) {
+				engine.addObserver(new Checkpoint(engine, Paths.get(checkpoint), checkpointInterval));
+			}
+			if (jmx) {
+				measure(engine, 0);
+			}
+
+			// Visuals are only an observer of the engine; headless runs never load java.awt
+			if (!headless) {
+				GamePanel.attach(engine);
+			}
+
+			double averageFitness = engine.run();
+			System.out.println("Average fitness per generation: " + averageFitness);
+			System.out.printf("Throughput: %.1f steps/sec, %.2f generations/sec%n",
+					engine.getStepsPerSecond(), engine.getGenerationsPerSecond());
+			if (telemetry != null) {
+				telemetry.close();
+			}
+			return;
+		}
+
+		//---------------------------------------------------------------------
+		// Several independent worlds, each on its own thread
+		//---------------------------------------------------------------------
+
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(worlds, Runtime.getRuntime().availableProcessors()));
+		ArrayList<SimulationEngine> engines = new ArrayList<SimulationEngine>();
+		ArrayList<Future<Double>> results = new ArrayList<Future<Double>>();
+		long start = System.nanoTime();
+		System.out.println("Seed: " + params.getSeed());
+
+		for (int w = 0; w < worlds; w ++) {
+			SimulationEngine engine = new SimulationEngine(new World(params.copy(), RandomStream.derive(params.getSeed(), w)));
+			engine.addObserver(telemetry != null ? telemetry.reporter(engine.getWorld(), w) : new ConsoleReporter("world " + w + "\t"));
+			if (jmx) {
+				measure(engine, w);
+			}
+			engines.add(engine);
+			results.add(pool.submit(engine::run));
+		}
+
+		for (int w = 0; w < worlds; w ++) {
+			System.out.println("world " + w + " average fitness per generation: " + results.get(w).get());
+		}
+		pool.shutdown();
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		long steps = 0;
+		int generations = 0;
+		for (SimulationEngine engine : engines) {
+			steps += engine.getStepsTaken();
+			generations += engine.getGenerationsTaken();
+		}
+		System.out.printf("Throughput: %.1f steps/sec, %.2f generations/sec across %d worlds%n",
+				steps / seconds, generations / seconds, worlds);
+		if (telemetry != null) {
+			telemetry.close();
+		}
+	}
+
+	/**
+	 * value --- The value given to an option.
+	 * @param args = the command line arguments
+	 * @param i = index of the value, just after the option
+	 * @return the value
+	 */
+	private static String value(String[] args, int i) {
+		if (i >= args.length) {
+			throw new IllegalArgumentException(args[i - 1] + " needs a value (see --help)");
+		}
+		return args[i];
+	}
+
+	/**
+	 * number --- The whole number given to an option.
+	 * @param args = the command line arguments
+	 * @param i = index of the value, just after the option
+	 * @return the number
+	 */
+	private static int number(String[] args, int i) {
+		String value = value(args, i);
+		try {
+			return Integer.parseInt(value);
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException(args[i - 1] + " takes a whole number, not " + value);
+		}
+	}
+
+	/**
+	 * choice --- Which of its allowed values an option was given.
+	 * @param args = the command line arguments
+	 * @param i = index of the value, just after the option
+	 * @param allowed = the values the option takes
+	 * @return index of the value among the allowed ones
+	 */
+	private static int choice(String[] args, int i, String... allowed) {
+		String value = value(args, i);
+		for (int k = 0; k < allowed.length; k ++) {
+			if (allowed[k].equals(value)) {
+				return k;
+			}
+		}
+		throw new IllegalArgumentException(args[i - 1] + " takes " + String.join("|", allowed) + ", not " + value);
+	}
+
+	/**
+	 * measure --- Gives an engine metrics and publishes them over JMX.
+	 * @param engine = the engine to be measured
+	 * @param world = its number among the worlds or islands
+	 * @return: none
+	 */
+	private static void measure(SimulationEngine engine, int world) throws JMException {
+		SimulationMetrics metrics = new SimulationMetrics();
+		engine.setMetrics(metrics);
+		System.out.println("JMX: " + metrics.register(world));
+	}
+}
@@ -0,0 +1,164 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 5/10/2015
+// Class: BoardPanel.java
+//==========================================================================
+
+package gameoflife;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.util.Arrays;
+
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+public class BoardPanel extends JPanel {
+
+	//==========================================================================
+	// Visual item representations
+	//==========================================================================
+
+	public static final int MONSTER = 0x000000; // Monster = Black
+	public static final int CREATURE = 0x00FF00; // Creature = Green
+	public static final int STRAWBERRY = 0xFF0000; // Strawberry = Red
+	public static final int MUSHROOM = 0xFFFF00; // Mushroom = Yellow
+	public static final int EMPTY = 0xDCDCDC; // Nothing = Light grey
+
+	private static final int MAX_SIZE = 900; // largest preferred width/height in pixels
+	private static final int FPS = 30; // most frames shown per second
+
+	private World world; // the world being drawn
+	private int rows;
+	private int cols;
+	private int chunkRows;
+	private int chunkCols;
+	private int[] version; // bumped whenever chunk k changes (simulation thread only)
+	private FrameBuffer frames; // finished frames on their way to the Swing thread
+
+	/**
+	 * BoardPanel--- The whole game board drawn as one image with one pixel per
+	 * cell, scaled to the panel when painted. The simulation thread draws frames
+	 * (render) and hands them over through a triple buffer; a Swing timer picks
+	 * up the newest one at most FPS times a second and skips the rest. Neither
+	 * thread waits for the other, and only whole frames are ever painted. Only
+	 * the chunks that changed since a frame was last drawn are recoloured (see
+	 * Layer.trackChanges), so the cost of a frame follows the activity on the
+	 * board, not its area.
+	 * @params world = the world whose board is drawn
+	 * @return : none
+	 */
+	public BoardPanel(World world) {
+		this.world = world;
+		this.rows = world.getRows();
+		this.cols = world.getCols();
+		chunkRows = (rows + Layer.CHUNK - 1) >>> Layer.CHUNK_SHIFT;
+		chunkCols = (cols + Layer.CHUNK - 1) >>> Layer.CHUNK_SHIFT;
+		version = new int[chunkRows * chunkCols];
+		Arrays.fill(version, 1); // frames start at 0, so the first render draws everything
+		frames = new FrameBuffer(rows, cols, version.length);
+
+		world.getMonsterLocations().trackChanges();
+		world.getCreatureLocations().trackChanges();
+		world.getStrawberryLocations().trackChanges();
+		world.getMushroomLocations().trackChanges();
+
+		// 10 pixels per cell like the original squares, shrunk to fit big boards
+		double scale = Math.min(10.0, (double) MAX_SIZE / Math.max(rows, cols));
+		setPreferredSize(new Dimension((int) Math.ceil(cols * scale), (int) Math.ceil(rows * scale)));
+
+		new Timer(1000 / FPS, e -> {
+			if (frames.take()) {
+				repaint();
+			}
+		}).start();
+	}
+
+	//==========================================================================
+	// Simulation thread
+	//==========================================================================
+
+	/**
+	 * render --- Draws the board as it is now into the back frame and publishes
+	 * it. Does nothing while the last published frame has not been shown yet;
+	 * changes keep accumulating in the layers and go into the next frame.
+	 * @params : none
+	 * @return : none
+	 */
+	public void render() {
+		if (!frames.wanted()) {
+			return;
+		}
+		Layer monsters = world.getMonsterLocations();
+		Layer creatures = world.getCreatureLocations();
+		Layer strawberries = world.getStrawberryLocations();
+		Layer mushrooms = world.getMushroomLocations();
+		FrameBuffer.Frame frame = frames.back();
+
+		for (int cr = 0, k = 0; cr < chunkRows; cr++) {
+			for (int cc = 0; cc < chunkCols; cc++, k++) {
+				// every flag is taken, so none stays set for the next frame
+				boolean changed = monsters.takeChanged(cr, cc);
+				changed |= creatures.takeChanged(cr, cc);
+				changed |= strawberries.takeChanged(cr, cc);
+				changed |= mushrooms.takeChanged(cr, cc);
+				if (changed) {
+					version[k] ++;
+				}
+				// the back frame may be two frames old, so it catches up on every chunk it missed
+				if (frame.rendered[k] != version[k]) {
+					renderChunk(frame.pixels, cr, cc, monsters.chunkCounts(cr, cc), creatures.chunkCounts(cr, cc),
+							strawberries.chunkCounts(cr, cc), mushrooms.chunkCounts(cr, cc));
+					frame.rendered[k] = version[k];
+				}
+			}
+		}
+		frame.generation = world.getGeneration();
+		frame.step = world.getStep();
+		frames.publish();
+	}
+
+	private void renderChunk(int[] pixels, int cr, int cc, int[] monsters, int[] creatures, int[] strawberries, int[] mushrooms) {
+		int top = cr << Layer.CHUNK_SHIFT;
+		int left = cc << Layer.CHUNK_SHIFT;
+		int height = Math.min(Layer.CHUNK, rows - top);
+		int width = Math.min(Layer.CHUNK, cols - left);
+
+		for (int r = 0; r < height; r++) {
+			int cell = r << Layer.CHUNK_SHIFT;
+			int pixel = (top + r) * cols + left;
+			for (int c = 0; c < width; c++, cell++, pixel++) {
+				int color;
+				if (monsters != null && monsters[cell] > 0) {
+					color = MONSTER;
+				}
+				else if (creatures != null && creatures[cell] > 0) {
+					color = CREATURE;
+				}
+				else if (strawberries != null && strawberries[cell] > 0) {
+					color = STRAWBERRY;
+				}
+				else if (mushrooms != null && mushrooms[cell] > 0) {
+					color = MUSHROOM;
+				}
+				else {
+					color = EMPTY;
+				}
+				pixels[pixel] = color;
+			}
+		}
+	}
+
+	//==========================================================================
+	// Swing thread
+	//==========================================================================
+
+	/**
+	 * paintComponent --- paints the newest frame taken, scaled to the panel
+	 * @params g = graphics object that is being colored
+	 * @return : none
+	 */
+	public void paintComponent(Graphics g) {
+		g.drawImage(frames.front().image, 0, 0, getWidth(), getHeight(), null);
+	}
+}
@@ -0,0 +1,254 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: CellIndex.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.Arrays;
+
+public class CellIndex {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final int NONE = -1; // end of a bucket / empty cell
+
+	private static final int POOL = 64; // empty chunks kept for reuse
+
+	// First creature slot of each cell, kept in Layer-sized chunks that only
+	// exist while a creature stands in them (see Layer)
+	private ChunkTable<Heads> heads = new ChunkTable<Heads>();
+	private Heads[] pool = new Heads[POOL];
+	private int pooled;
+
+	// Doubly linked bucket links, indexed by creature slot
+	private int[] next;
+	private int[] prev;
+	private boolean[] linked; // true while the slot is in a bucket
+
+	/**
+	 * Heads --- the bucket heads of one CHUNK x CHUNK block of cells:
+	 * first[r * CHUNK + c] is the first slot in the cell, NONE if empty.
+	 */
+	private static class Heads {
+		int[] first = new int[Layer.CHUNK * Layer.CHUNK];
+		int linked; // number of creatures in the chunk's buckets
+
+		Heads() {
+			Arrays.fill(first, NONE);
+		}
+	}
+
+	//==========================================================================
+	// CellIndex Constructor
+	//==========================================================================
+
+	/**
+	 * CellIndex --- Creates an empty index with one bucket per board cell. The
+	 * buckets are doubly linked lists of creature slots (see CreatureStore), so
+	 * adding, removing and moving a creature never allocates. Like Layer, the
+	 * buckets are grouped in chunks that only exist while they hold a creature.
+	 * @param rows,cols = dimensions of the game board
+	 * @param capacity = number of creature slots to make room for up front
+	 * @return: none
+	 */
+	public CellIndex(int rows, int cols, int capacity) {
+		capacity = Math.max(capacity, 1);
+		next = new int[capacity];
+		prev = new int[capacity];
+		linked = new boolean[capacity];
+	}
+
+	private static long key(int row, int col) {
+		return ChunkTable.key(row >>> Layer.CHUNK_SHIFT, col >>> Layer.CHUNK_SHIFT);
+	}
+
+	private static int cell(int row, int col) {
+		return ((row & (Layer.CHUNK - 1)) << Layer.CHUNK_SHIFT) | (col & (Layer.CHUNK - 1));
+	}
+
+	//==========================================================================
+	// Index maintenance
+	//==========================================================================
+
+	/**
+	 * add --- Links a creature into the bucket of the cell it is standing on.
+	 * @param slot = creature slot, must not already be in the index
+	 * @param row,col = the cell the creature stands on
+	 * @return: none
+	 */
+	public void add(int slot, int row, int col) {
+		if (slot >= next.length) {
+			int capacity = Math.max(slot + 1, next.length * 2);
+			next = Arrays.copyOf(next, capacity);
+			prev = Arrays.copyOf(prev, capacity);
+			linked = Arrays.copyOf(linked, capacity);
+		}
+		long key = key(row, col);
+		Heads chunk = heads.get(key);
+		if (chunk == null) {
+			chunk = pooled > 0 ? pool[--pooled] : new Heads();
+			heads.put(key, chunk);
+		}
+
+		int cell = cell(row, col);
+		int head = chunk.first[cell];
+		prev[slot] = NONE;
+		next[slot] = head;
+		if (head != NONE) {
+			prev[head] = slot;
+		}
+		chunk.first[cell] = slot;
+		chunk.linked ++;
+		linked[slot] = true;
+	}
+
+	/**
+	 * remove --- Unlinks a creature from the bucket of the cell it is standing
+	 * on. Slots that are not in the index are ignored.
+	 * @param slot = creature slot to be removed
+	 * @param row,col = the cell the creature stands on
+	 * @return: none
+	 */
+	public void remove(int slot, int row, int col) {
+		if (slot >= linked.length || !linked[slot]) {
+			return;
+		}
+		long key = key(row, col);
+		Heads chunk = heads.get(key);
+		if (prev[slot] != NONE) {
+			next[prev[slot]] = next[slot];
+		}
+		else {
+			chunk.first[cell(row, col)] = next[slot];
+		}
+		if (next[slot] != NONE) {
+			prev[next[slot]] = prev[slot];
+		}
+		linked[slot] = false;
+
+		// Give empty chunks back (all of their heads are NONE again)
+		if (--chunk.linked == 0) {
+			heads.remove(key);
+			if (pooled < POOL) {
+				pool[pooled++] = chunk;
+			}
+		}
+	}
+
+	/**
+	 * move --- Moves a creature's link from one cell's bucket to another's.
+	 * @param slot = creature slot to be moved
+	 * @param fromRow,fromCol = the cell the creature leaves
+	 * @param toRow,toCol = the cell the creature moves to
+	 * @return: none
+	 */
+	public void move(int slot, int fromRow, int fromCol, int toRow, int toCol) {
+		if (fromRow == toRow && fromCol == toCol) {
+			return;
+		}
+		if (slot >= linked.length || !linked[slot]) {
+			return;
+		}
+		long key = key(fromRow, fromCol);
+		if (key != key(toRow, toCol)) {
+			remove(slot, fromRow, fromCol);
+			add(slot, toRow, toCol);
+			return;
+		}
+
+		// Same chunk: relink within it, so a lone creature's chunk is not released and taken again
+		Heads chunk = heads.get(key);
+		if (prev[slot] != NONE) {
+			next[prev[slot]] = next[slot];
+		}
+		else {
+			chunk.first[cell(fromRow, fromCol)] = next[slot];
+		}
+		if (next[slot] != NONE) {
+			prev[next[slot]] = prev[slot];
+		}
+		int cell = cell(toRow, toCol);
+		int head = chunk.first[cell];
+		prev[slot] = NONE;
+		next[slot] = head;
+		if (head != NONE) {
+			prev[head] = slot;
+		}
+		chunk.first[cell] = slot;
+	}
+
+	/**
+	 * relocate --- A creature has been moved to a different slot of the store;
+	 * make its neighbours (or its cell's head) point at the new slot.
+	 * @param from = the slot the creature used to occupy
+	 * @param to = the slot it occupies now (always lower than from, and no
+	 * longer in the index)
+	 * @param row,col = the cell the creature stands on
+	 * @return: none
+	 */
+	public void relocate(int from, int to, int row, int col) {
+		if (!linked[from]) {
+			linked[to] = false;
+			return;
+		}
+		next[to] = next[from];
+		prev[to] = prev[from];
+		linked[to] = true;
+		linked[from] = false;
+
+		if (prev[to] != NONE) {
+			next[prev[to]] = to;
+		}
+		else {
+			heads.get(key(row, col)).first[cell(row, col)] = to;
+		}
+		if (next[to] != NONE) {
+			prev[next[to]] = to;
+		}
+	}
+
+	/**
+	 * clear --- Empties every bucket, used when a new generation is placed.
+	 * @param : none
+	 * @return: none
+	 */
+	public void clear() {
+		for (int i = 0; i < heads.capacity(); i++) {
+			Heads chunk = heads.valueAt(i);
+			if (chunk != null && pooled < POOL) {
+				Arrays.fill(chunk.first, NONE);
+				chunk.linked = 0;
+				pool[pooled++] = chunk;
+			}
+		}
+		heads.clear();
+		Arrays.fill(linked, false);
+	}
+
+	//==========================================================================
+	// Lookups
+	//==========================================================================
+
+	/**
+	 * first --- The first creature standing on a cell. Follow next() for the rest.
+	 * @param row,col = the cell to look at
+	 * @return the first creature slot in the cell, or NONE if the cell is empty
+	 */
+	public int first(int row, int col) {
+		Heads chunk = heads.get(key(row, col));
+		return chunk == null ? NONE : chunk.first[cell(row, col)];
+	}
+
+	/**
+	 * next --- The creature after this one in the same cell.
+	 * @param slot = a creature slot in the index
+	 * @return the next creature slot in the cell, or NONE
+	 */
+	public int next(int slot) {
+		return next[slot];
+	}
+}
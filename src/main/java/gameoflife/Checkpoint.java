@@ -0,0 +1,323 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: Checkpoint.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+public class Checkpoint implements SimulationObserver {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final int MAGIC = 0x474F4C43; // "GOLC"
+	public static final int VERSION = 5; // bump whenever the layout below changes
+
+	private static final long WINDOW = 64L << 20; // bytes mapped at a time
+
+	private SimulationEngine engine; // the engine whose state is saved
+	private Path file; // where checkpoints are written
+	private int interval; // save after every interval generations
+
+	//==========================================================================
+	// Checkpoint Constructor
+	//==========================================================================
+
+	/**
+	 * Checkpoint --- An observer that saves the engine's whole state every few
+	 * generations, so a long run can be picked up again if the JVM dies. Each
+	 * save goes to a temporary file that then replaces the old checkpoint, so
+	 * there is always one complete checkpoint on disk.
+	 * @param engine = the engine to be saved
+	 * @param file = checkpoint file
+	 * @param interval = number of generations between saves
+	 * @return: none
+	 */
+	public Checkpoint(SimulationEngine engine, Path file, int interval) {
+		this.engine = engine;
+		this.file = file;
+		this.interval = Math.max(interval, 1);
+	}
+
+	public void generationStarted(int g) {
+	}
+
+	public void stepCompleted(int g, int t) {
+	}
+
+	public void generationCompleted(int g, double averageLifeForce) {
+		if ((g + 1) % interval == 0) {
+			try {
+				save(engine, file);
+			}
+			catch (IOException e) {
+				throw new IllegalStateException("could not write checkpoint " + file, e);
+			}
+		}
+	}
+
+	//==========================================================================
+	// Save and restore
+	//==========================================================================
+
+	/**
+	 * save --- Writes everything needed to carry on a run: the parameters, the
+	 * engine's counters and the world (four layers, creatures, monsters, random
+	 * streams). Must be called between steps, e.g. at the end of a generation;
+	 * a run restored from it continues exactly as the original would have.
+	 * @param engine = the engine to be saved
+	 * @param file = checkpoint file, replaced if it exists
+	 * @return: none
+	 */
+	public static void save(SimulationEngine engine, Path file) throws IOException {
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (Output out = new Output(temporary)) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			writeParameters(out, engine.getWorld().getParameters());
+			out.writeLong(engine.getWorld().getSeed());
+			engine.save(out);
+			engine.getWorld().save(out);
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause(); // from Output, whose writers are called by every save
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * restore --- Rebuilds an engine from a checkpoint. The next generation it
+	 * runs is bred from the checkpointed survivors. A file that is not a
+	 * checkpoint of this version, is cut short or holds impossible counts is
+	 * reported as an IOException.
+	 * @param file = checkpoint file written by save
+	 * @param pool = threads for the parallel step, or null for the sequential step
+	 * @return an engine ready to continue the run
+	 */
+	public static SimulationEngine restore(Path file, ForkJoinPool pool) throws IOException {
+		try (Input in = new Input(file)) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException(file + " is not a checkpoint");
+			}
+			int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException(file + " is checkpoint version " + version + ", expected " + VERSION);
+			}
+
+			SimulationParameters params = readParameters(in);
+			World world = new World(params, in.readLong());
+			SimulationEngine engine = pool == null ? new SimulationEngine(world) : new SimulationEngine(world, pool);
+			engine.load(in);
+			world.load(in);
+			return engine;
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause(); // from Input, whose readers are called by every load
+		}
+	}
+
+	private static void writeParameters(Output out, SimulationParameters p) {
+		long[] fields = p.toFields();
+		out.writeInt(fields.length);
+		out.writeLongs(fields, 0, fields.length);
+	}
+
+	private static SimulationParameters readParameters(Input in) throws IOException {
+		int count = in.readInt();
+		if (count != SimulationParameters.FIELDS) {
+			throw new IOException("checkpoint holds " + count + " parameters, expected " + SimulationParameters.FIELDS);
+		}
+		long[] fields = new long[count];
+		in.readLongs(fields, 0, count);
+		return SimulationParameters.fromFields(fields);
+	}
+
+	//==========================================================================
+	// Memory mapped output
+	//==========================================================================
+
+	/**
+	 * Output --- Writes little endian primitives straight into a memory mapped
+	 * window of the file, moving the window along as it fills. Arrays are copied
+	 * in bulk, so large worlds are written at memory speed with no encoding.
+	 */
+	public static class Output implements Closeable {
+		private FileChannel channel;
+		private MappedByteBuffer buffer;
+		private long base; // file position of the start of the window
+
+		Output(Path file) throws IOException {
+			channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.READ, StandardOpenOption.WRITE);
+			map(0);
+		}
+
+		private void map(long position) {
+			try {
+				base = position;
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, base, WINDOW);
+				buffer.order(ByteOrder.LITTLE_ENDIAN);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("could not map checkpoint file", e);
+			}
+		}
+
+		private void ensure(int bytes) {
+			if (buffer.remaining() < bytes) {
+				buffer.force();
+				map(base + buffer.position());
+			}
+		}
+
+		public void writeInt(int value) {
+			ensure(4);
+			buffer.putInt(value);
+		}
+
+		public void writeLong(long value) {
+			ensure(8);
+			buffer.putLong(value);
+		}
+
+		public void writeInts(int[] values, int offset, int length) {
+			while (length > 0) {
+				ensure(4);
+				int n = Math.min(length, buffer.remaining() / 4);
+				buffer.asIntBuffer().put(values, offset, n);
+				buffer.position(buffer.position() + n * 4);
+				offset += n;
+				length -= n;
+			}
+		}
+
+		public void writeLongs(long[] values, int offset, int length) {
+			while (length > 0) {
+				ensure(8);
+				int n = Math.min(length, buffer.remaining() / 8);
+				buffer.asLongBuffer().put(values, offset, n);
+				buffer.position(buffer.position() + n * 8);
+				offset += n;
+				length -= n;
+			}
+		}
+
+		public void close() throws IOException {
+			long end = base + buffer.position();
+			buffer.force();
+			buffer = null;
+			channel.truncate(end); // drop the unused tail of the last window
+			channel.force(true);
+			channel.close();
+		}
+	}
+
+	//==========================================================================
+	// Memory mapped input
+	//==========================================================================
+
+	/**
+	 * Input --- Reads what Output wrote, straight out of a read only mapping of
+	 * the file. Arrays are copied in bulk; nothing is parsed. A file cut short
+	 * is reported as an UncheckedIOException, which restore unwraps.
+	 */
+	public static class Input implements Closeable {
+		private FileChannel channel;
+		private MappedByteBuffer buffer;
+		private long base; // file position of the start of the window
+		private long size; // file length
+
+		Input(Path file) throws IOException {
+			channel = FileChannel.open(file, StandardOpenOption.READ);
+			size = channel.size();
+			map(0);
+		}
+
+		private void map(long position) {
+			try {
+				base = position;
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(WINDOW, size - base));
+				buffer.order(ByteOrder.LITTLE_ENDIAN);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("could not map checkpoint file", e);
+			}
+		}
+
+		private void ensure(int bytes) {
+			if (buffer.remaining() < bytes) {
+				if (base + buffer.position() + bytes > size) {
+					throw new UncheckedIOException(new IOException("checkpoint file is truncated"));
+				}
+				map(base + buffer.position());
+			}
+		}
+
+		public int readInt() {
+			ensure(4);
+			return buffer.getInt();
+		}
+
+		/**
+		 * readCount --- Reads the number of items that follow, and checks that
+		 * that many fit in the rest of the file, so a corrupt count is reported
+		 * before anything is allocated for it.
+		 * @param itemBytes = bytes every item takes in the file
+		 * @return the count
+		 */
+		public int readCount(int itemBytes) {
+			int count = readInt();
+			if (count < 0 || (long) count * itemBytes > size - base - buffer.position()) {
+				throw new UncheckedIOException(new IOException("checkpoint file is corrupt: " + count + " items cannot follow"));
+			}
+			return count;
+		}
+
+		public long readLong() {
+			ensure(8);
+			return buffer.getLong();
+		}
+
+		public void readInts(int[] values, int offset, int length) {
+			while (length > 0) {
+				ensure(4);
+				int n = Math.min(length, buffer.remaining() / 4);
+				buffer.asIntBuffer().get(values, offset, n);
+				buffer.position(buffer.position() + n * 4);
+				offset += n;
+				length -= n;
+			}
+		}
+
+		public void readLongs(long[] values, int offset, int length) {
+			while (length > 0) {
+				ensure(8);
+				int n = Math.min(length, buffer.remaining() / 8);
+				buffer.asLongBuffer().get(values, offset, n);
+				buffer.position(buffer.position() + n * 8);
+				offset += n;
+				length -= n;
+			}
+		}
+
+		public void close() throws IOException {
+			buffer = null;
+			channel.close();
+		}
+	}
+}
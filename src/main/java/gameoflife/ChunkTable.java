@@ -0,0 +1,190 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: ChunkTable.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.Arrays;
+
+public class ChunkTable<T> {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final long EMPTY = -1; // keys are never negative
+
+	private long[] keys; // open addressing with linear probing
+	private Object[] values;
+	private int mask; // capacity - 1, capacity is a power of two
+	private int size; // number of keys in the table
+
+	//==========================================================================
+	// ChunkTable Constructor
+	//==========================================================================
+
+	/**
+	 * ChunkTable --- Maps a chunk key (see key) to the chunk stored under it.
+	 * Lookups are a hash and a short probe with no boxing, so the step loop can
+	 * find chunks without allocating. Only the chunks that exist take up room.
+	 * @param : none
+	 * @return: none
+	 */
+	public ChunkTable() {
+		keys = new long[16];
+		values = new Object[16];
+		Arrays.fill(keys, EMPTY);
+		mask = 15;
+	}
+
+	/**
+	 * key --- Packs the chunk coordinates of a cell into one table key.
+	 * @param chunkRow,chunkCol = row/column of the chunk (cell row/column divided by the chunk size)
+	 * @return the key
+	 */
+	public static long key(int chunkRow, int chunkCol) {
+		return ((long) chunkRow << 32) | chunkCol;
+	}
+
+	private int home(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 29)) & mask;
+	}
+
+	//==========================================================================
+	// Lookups and updates
+	//==========================================================================
+
+	/**
+	 * get --- Finds the chunk stored under a key.
+	 * @param key = chunk key
+	 * @return the chunk, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(long key) {
+		int i = home(key);
+		while (keys[i] != EMPTY) {
+			if (keys[i] == key) {
+				return (T) values[i];
+			}
+			i = (i + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * put --- Stores a chunk under a key that is not in the table yet.
+	 * @param key = chunk key
+	 * @param value = the chunk
+	 * @return: none
+	 */
+	public void put(long key, T value) {
+		if ((size + 1) * 2 > keys.length) {
+			resize(keys.length * 2);
+		}
+		int i = home(key);
+		while (keys[i] != EMPTY) {
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		size ++;
+	}
+
+	/**
+	 * remove --- Removes a key, shifting later entries of its probe run back so
+	 * lookups never need tombstones.
+	 * @param key = chunk key
+	 * @return: none
+	 */
+	public void remove(long key) {
+		int i = home(key);
+		while (keys[i] != key) {
+			if (keys[i] == EMPTY) {
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (keys[j] == EMPTY) {
+				break;
+			}
+			int k = home(keys[j]);
+			// entry j may stay where it is if its home lies cyclically in (i, j]
+			if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+				continue;
+			}
+			keys[i] = keys[j];
+			values[i] = values[j];
+			i = j;
+		}
+		keys[i] = EMPTY;
+		values[i] = null;
+		size --;
+	}
+
+	/**
+	 * clear --- Removes every chunk.
+	 * @param : none
+	 * @return: none
+	 */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new long[capacity];
+		values = new Object[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+		size = 0;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY) {
+				int j = home(oldKeys[i]);
+				while (keys[j] != EMPTY) {
+					j = (j + 1) & mask;
+				}
+				keys[j] = oldKeys[i];
+				values[j] = oldValues[i];
+				size ++;
+			}
+		}
+	}
+
+	//==========================================================================
+	// Iteration (slot by slot, without allocating)
+	//==========================================================================
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * valueAt --- The chunk in one slot of the table, for walking every chunk:
+	 * for (int i = 0; i < table.capacity(); i++) { T c = table.valueAt(i); ... }
+	 * @param slot = 0 .. capacity()-1
+	 * @return the chunk in that slot, or null if the slot is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T valueAt(int slot) {
+		return (T) values[slot];
+	}
+
+	public long keyAt(int slot) {
+		return keys[slot];
+	}
+}
@@ -0,0 +1,34 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: ConsoleReporter.java
+//==========================================================================
+
+package gameoflife;
+
+public class ConsoleReporter implements SimulationObserver {
+
+	private String prefix; // printed before every line, to tell worlds apart
+
+	/**
+	 * ConsoleReporter --- prints the fitness of every generation to System.out
+	 * @param prefix = text printed at the start of every line
+	 * @return: none
+	 */
+	public ConsoleReporter(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public void generationStarted(int generation) {
+		if (generation == 0) {
+			System.out.println(prefix + "Initial Generation has begun.");
+		}
+	}
+
+	public void stepCompleted(int generation, int step) {
+	}
+
+	public void generationCompleted(int generation, double averageLifeForce) {
+		System.out.println(prefix + generation + "\t" + averageLifeForce);
+	}
+}
@@ -0,0 +1,637 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 5/10/2015
+// Class: Creature.java
+//==========================================================================
+
+package gameoflife;
+
+public class Creature {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final int MOVEUP = 1;
+	private static final int MOVEDOWN = 2;
+	private static final int MOVERIGHT = 3;
+	private static final int MOVELEFT = 4;
+	private static final int EATSTRAWBERRY = 5;
+	private static final int EATMUSHROOM = 6;
+
+	public static final int SENSES = 6; // number of sensor readings, one per situational chromosome
+	public static final int DECISIONS = 1 << SENSES; // decision table entries, one per sensed situation
+
+	// Decision table entries (see compileDecisions): kind in the high bits, argument in the low 3
+	private static final int DO = 0; // argument is the action, 0 = none
+	private static final int TOWARDS = 1 << 3; // argument is the reading whose direction is followed
+	private static final int AWAY = 2 << 3; // argument is the reading whose direction is fled
+	private static final int RANDOM = 3 << 3; // random direction
+
+	private static final int QUIET_STEPS = 16; // most steps skipped per look (see quietSteps)
+	private static final int RETRY_STEPS = 8; // steps before asking again after something was close
+
+	private static final int[] OPPOSITE = {0, MOVEDOWN, MOVEUP, MOVELEFT, MOVERIGHT}; // indexed by direction
+
+	//Creature Attributes
+	private int lifeForce; // number of actions creature can make before dying
+	private int r; // creature row position
+	private int c; // creature column position
+	private long genome; // creature chromosome, packed (see Genome)
+	private int trackingNumber; // creature tracking numbers for testing purposes
+
+	//==========================================================================
+	// Creature Constructor
+	//==========================================================================
+
+	/**
+	 * Creature --- Creature object constructor. Live creatures are kept in the
+	 * World's CreatureStore; Creature objects are copies used between
+	 * generations (survivors, parents, migrants).
+	 * @param r = row position 
+	 * @param c = column position
+	 * @param lifeForce = number of steps left that a creature can make
+	 * @param genome = packed chromosome that influences action choices
+	 * @param trackingNumber = number given at creation, for testing purposes 
+	 * @return: none
+	 */ 
+	public Creature(int r, int c, int lifeForce, long genome, int trackingNumber) {	
+		this.r = r;
+		this.c = c;
+		this.lifeForce = lifeForce;
+		this.genome = genome;
+		this.trackingNumber = trackingNumber;
+	}
+
+	//==========================================================================
+	// Object interaction movement
+	//==========================================================================
+
+	/**
+	 * act -- Decides what act a creature will attempt to make during one time step.
+	 * @param w = the World the creature lives in
+	 * @param i = slot of the creature in the World's CreatureStore
+	 * @return : none
+	 */ 
+	public static void act(World w, int i) {
+		perform(w, i, (int) selectAction(w, i));
+	}
+
+	/**
+	 * perform --- Carries out an action a creature has chosen. Eating only
+	 * succeeds if the item is still on the creature's cell: when actions are
+	 * chosen in parallel (see SimulationEngine) an earlier creature may have
+	 * eaten it first, and the later one's eat simply fails.
+	 * @param w = the World the creature lives in
+	 * @param i = slot of the creature that acts
+	 * @param action = the action chosen by selectAction
+	 * @return: none
+	 */
+	public static void perform(World w, int i, int action) {
+
+		CreatureStore s = w.getCreatures();
+		int row = s.getRow(i);
+		int col = s.getCol(i);
+
+		// Up direction = 1
+		if (action == MOVEUP) {
+			attemptMove(w, i, row-1, col);
+		}
+
+		// Down direction = 2
+		else if (action == MOVEDOWN) {
+			attemptMove(w, i, row+1, col);
+		}
+
+		// east direction = 3
+		else if (action == MOVERIGHT) {
+			attemptMove(w, i, row, col+1);
+		}
+
+		// west direction = 4
+		else if (action == MOVELEFT) {
+			attemptMove(w, i, row, col-1);
+		}
+
+		else if (action == EATSTRAWBERRY && strawberryPresent(w, row, col)) {
+			w.getStrawberryLocations().decrement(row, col); //strawberry eaten, update board info
+			s.setEnergy(i, s.getEnergy(i) + 5); // eating a strawberry promotes lifeForce and chances of survival
+			w.countStrawberryEaten();
+		}
+
+		else if (action == EATMUSHROOM && mushroomPresent(w, row, col)) {
+			w.getMushroomLocations().decrement(row, col); //mushroom eaten, update board info
+			w.getCreatureLocations().decrement(row, col); //creature died, update board info
+			s.setEnergy(i, 0); // eating a mushroom kills the creature
+			w.getCreatureIndex().remove(i, row, col); // dead creatures can no longer be found on the board
+			s.kill(i, DeathCause.MUSHROOM); // flagged dead, removed at the end of the step
+		}
+	}
+
+
+	//==========================================================================
+	// Attempt Move
+	//==========================================================================
+
+	/**
+	 * attemptMove --- Creature attempts to move, based on its position. Makes sure
+	 * the creature stays within the bounds of the board and also updates lifeForce
+	 * @param w = the World the creature lives in
+	 * @param i = slot of the creature that is attempting the move
+	 * @params targetR, targetC = the row, col that the creature is attempting to 
+	 * move towards
+	 * @return: none
+	 */ 
+	public static void attemptMove(World w, int i, int targetR, int targetC) {
+
+		CreatureStore s = w.getCreatures();
+		int row = s.getRow(i);
+		int col = s.getCol(i);
+		int lifeForce = s.getEnergy(i) - 1;
+
+		s.setEnergy(i, lifeForce);
+
+		// Keep things in bounds
+		if (targetR >= 0 && targetR < w.getRows() && targetC >= 0 && targetC < w.getCols()) {
+			w.getCreatureIndex().move(i, row, col, targetR, targetC);
+			s.setPosition(i, targetR, targetC);
+
+			// Arrive before leaving, so a lone creature's chunk is never empty in between
+			w.getCreatureLocations().increment(targetR, targetC);
+			w.getCreatureLocations().decrement(row, col);
+			w.countMove();
+			row = targetR;
+			col = targetC;
+		}
+
+		// Move has been attempted, life force has weakened.
+		// If creature has no life force, it has died.
+		if (lifeForce <= 0) {
+			w.getCreatureLocations().decrement(row, col);  //update board info
+			w.getCreatureIndex().remove(i, row, col);
+			s.kill(i, DeathCause.STARVATION); // flagged dead, removed at the end of the step
+		}	
+	}
+
+	//==========================================================================
+	// Select Action for creature
+	//==========================================================================
+
+	/**
+	 * selectAction --- Decipher how a creature's chromosome influences its actions
+	 * in its current environment and vision range
+	 * @param w = the World the creature lives in
+	 * @param i = slot of the creature that we are selecting the action for
+	 * @return = double that represents the creature's desired action
+	 */ 
+	public static double selectAction(World w, int i) {
+		return selectAction(w, i, w.getSensorReadings());
+	}
+
+	/**
+	 * selectAction --- Same as above, but writes the creature's sensor readings
+	 * into the given buffer instead of the world's shared one. Which of the six
+	 * readings are non zero picks an entry of the creature's decision table
+	 * (see compileDecisions); the readings themselves only supply the direction
+	 * when the entry says to move towards or away from something. A creature
+	 * that saw nothing does not look again until something could have come
+	 * into sight (see quietSteps); until then its situation is "nothing".
+	 * @param w = the World the creature lives in
+	 * @param i = slot of the creature that we are selecting the action for
+	 * @param readings = reusable buffer of SENSES ints (see sense)
+	 * @return = double that represents the creature's desired action
+	 */ 
+	public static double selectAction(World w, int i, int[] readings) {
+
+		CreatureStore s = w.getCreatures();
+		int step = w.getStep();
+		int situation = 0;
+
+		if (step > s.getQuietUntil(i)) {
+			// Read every layer once; readings[i] lines up with chromosome[i] for i = 0..5
+			sense(w, s.getRow(i), s.getCol(i), readings);
+
+			// bit k set = reading k is non zero (readings are never negative, so -x >>> 31 is 1 exactly when x > 0)
+			for (int sense = 0; sense < SENSES; sense ++) {
+				situation |= (-readings[sense] >>> 31) << sense;
+			}
+
+			// quietUntil below zero holds ~(first step worth asking quietSteps again)
+			if (situation == 0 && step >= ~s.getQuietUntil(i) && w.getFastForward()) {
+				int quiet = quietSteps(w, s.getRow(i), s.getCol(i));
+				s.setQuietUntil(i, quiet > 0 ? step + quiet : ~(step + RETRY_STEPS));
+			}
+		}
+
+		int decision = s.getDecision(i, situation);
+		int argument = decision & 7;
+
+		switch (decision & ~7) {
+		case TOWARDS:
+			return readings[argument]; // direction of the nearest such item
+		case AWAY:
+			return OPPOSITE[readings[argument]];
+		case RANDOM:
+			return w.creatureDraw(i, 4) + 1;
+		default:
+			return argument == 0 ? -1 : argument; // a fixed action, or none
+		}
+	}
+
+	//==========================================================================
+	// Fast forward through empty stretches
+	//==========================================================================
+
+	/**
+	 * quietSteps --- How many more steps a creature that sees nothing now is
+	 * certain to keep seeing nothing. Items never appear during a generation,
+	 * and creatures and monsters move at most one cell per step, so over k
+	 * steps the creature moves k times and anything else at most k + 1 times
+	 * between two of its turns (one extra when removeDead moves a creature
+	 * that acted after it into a slot that acts before it). With the nearest
+	 * thing d cells away (largest of the row and column offsets), nothing can
+	 * be within sight for the next (d - sight - 2) / 2 steps. Its sight square
+	 * is what sense scans, so skipping those scans changes no decision.
+	 * @param w = the World the creature lives in
+	 * @param row,col = position of the creature, which sees nothing
+	 * @return number of following steps it need not look, 0 to QUIET_STEPS
+	 */
+	public static int quietSteps(World w, int row, int col) {
+		int sight = w.getParameters().getCreatureSight();
+
+		// Usually something is just out of sight; a small square finds that cheaply
+		int nearest = nearest(w, row, col, sight + 3);
+		if (nearest > sight + 3) {
+			nearest = nearest(w, row, col, sight + 2 * QUIET_STEPS + 1);
+		}
+		return Math.max((nearest - sight - 2) / 2, 0);
+	}
+
+	private static int nearest(World w, int row, int col, int reach) {
+		int nearest = w.getCreatureLocations().distanceWithin(row, col, reach, true);
+		nearest = Math.min(nearest, w.getMonsterLocations().distanceWithin(row, col, nearest, false));
+		nearest = Math.min(nearest, w.getStrawberryLocations().distanceWithin(row, col, nearest, false));
+		return Math.min(nearest, w.getMushroomLocations().distanceWithin(row, col, nearest, false));
+	}
+
+	//==========================================================================
+	// Compile a chromosome into a decision table
+	//==========================================================================
+
+	/**
+	 * compileDecisions --- Works out once what a chromosome does in each of the
+	 * 64 situations a creature can sense (which of strawberry/mushroom present
+	 * and strawberry/mushroom/monster/creature nearby are true), so choosing an
+	 * action each step is a table lookup instead of reading the genes again.
+	 * Situational genes that react to something sensed compete by weight (the
+	 * first strongest wins); if none applies the default gene decides.
+	 * @param genome = the packed chromosome
+	 * @param table = array receiving DECISIONS entries
+	 * @param at = index of the first entry in table
+	 * @return: none
+	 */
+	public static void compileDecisions(long genome, byte[] table, int at) {
+		int startWeightSection = 7; // weights of chromosome
+
+		for (int situation = 0; situation < DECISIONS; situation ++) {
+			int strongestWeight = -1; // in case the actual strongest weight of the list is zero, set to -1
+			int idealAction = -1;
+
+			for (int action = 0; action < SENSES; action ++) {
+				// applicable: item present/nearby and chromosome reacts to it
+				if ((situation & (1 << action)) != 0 && Genome.gene(genome, action) > 0
+						&& strongestWeight < Genome.gene(genome, startWeightSection + action)) {
+					strongestWeight = Genome.gene(genome, startWeightSection + action);
+					idealAction = action;
+				}
+			}
+			table[at + situation] = (byte) decision(genome, idealAction);
+		}
+	}
+
+	private static int decision(long genome, int idealAction) {
+		switch (idealAction) {
+
+		case -1: // nothing applicable: the default action, random or one direction (up,down,right,left)
+			return Genome.gene(genome, 6) == 0 ? RANDOM : DO | Genome.gene(genome, 6);
+
+		case 0:
+			return DO | EATSTRAWBERRY; // Creature wants to eat strawberry
+
+		case 1:
+			return DO | EATMUSHROOM; // Creature wants to eat mushroom
+
+		default: // move depends on the nearest strawberry, mushroom, monster or creature
+			int gene = Genome.gene(genome, idealAction);
+			if (gene == 1) {
+				return TOWARDS | idealAction;
+			}
+			else if (gene == 2) {
+				return AWAY | idealAction;
+			}
+			else if (gene == 3) {
+				return RANDOM;
+			}
+			return DO; // no action
+		}
+	}
+
+	//==========================================================================
+	// Is a strawberry or mushroom present?
+	//==========================================================================
+
+	/**
+	 * strawberryPresent --- Decides whether a creature and a strawberry share the
+	 * same location on the current game board.
+	 * @param w = the World the creature lives in
+	 * @param row,col = position of the creature to be checked
+	 * @return = boolean whether creature and strawberry share same position
+	 */ 
+	public static boolean strawberryPresent(World w, int row, int col) {
+		return w.getStrawberryLocations().get(row, col) > 0;
+	}
+
+	/**
+	 * mushroomPresent --- Decides whether a creature and a mushroom share the
+	 * same location on the current game board.
+	 * @param w = the World the creature lives in
+	 * @param row,col = position of the creature to be checked
+	 * @return = boolean whether creature and mushroom share same position
+	 */ 
+	public static boolean mushroomPresent(World w, int row, int col) {
+		return w.getMushroomLocations().get(row, col) > 0;
+	}
+
+	//==========================================================================
+	// Sense every layer at once
+	//==========================================================================
+
+	/**
+	 * sense --- Reads everything a creature can sense in one pass over its vision
+	 * window. The results are written into readings, indexed like the chromosome:
+	 * [0] strawberry present (1/0), [1] mushroom present (1/0), and the direction
+	 * of the nearest [2] strawberry, [3] mushroom, [4] monster, [5] creature
+	 * (0 if none in sight). Directions match creatureVision, including which item
+	 * wins a tie (the first one found scanning row by row).
+	 * @param w = the World the creature lives in
+	 * @param row,col = position of the creature who is sensing
+	 * @param readings = buffer of at least SENSES ints to be filled in
+	 * @return: none
+	 */ 
+	public static void sense(World w, int row, int col, int[] readings) {
+		int sight = w.getParameters().getCreatureSight(); // vision range on board
+
+		Layer strawberries = w.getStrawberryLocations();
+		Layer mushrooms = w.getMushroomLocations();
+		Layer monsters = w.getMonsterLocations();
+		Layer creatures = w.getCreatureLocations();
+
+		readings[0] = strawberries.get(row, col) > 0 ? 1 : 0;
+		readings[1] = mushrooms.get(row, col) > 0 ? 1 : 0;
+
+		// Bitboards answer each layer with a few word operations per row that has anything in it
+		if (strawberries.hasBitboard()) {
+			readings[2] = strawberries.nearestDirection(row, col, sight);
+			readings[3] = mushrooms.nearestDirection(row, col, sight);
+			readings[4] = monsters.nearestDirection(row, col, sight);
+			readings[5] = creatures.nearestDirection(row, col, sight);
+			return;
+		}
+
+		// Restrains the creatures vision to the bounds of the game board.
+		int minVisRow = Math.max(0, row - sight);
+		int maxVisRow = Math.min(row + sight, w.getRows() - 1);
+		int minVisCol = Math.max(0, col - sight);
+		int maxVisCol = Math.min(col + sight, w.getCols() - 1);
+
+		// Nearest (row, col) offset found so far in each layer; distance 0 = nothing seen
+		int strawberryDist = 0, strawberryRow = 0, strawberryCol = 0;
+		int mushroomDist = 0, mushroomRow = 0, mushroomCol = 0;
+		int monsterDist = 0, monsterRow = 0, monsterCol = 0;
+		int creatureDist = 0, creatureRow = 0, creatureCol = 0;
+
+		for (int visionRow = minVisRow; visionRow <= maxVisRow; visionRow ++) {
+			int distRow = visionRow - row;
+
+			for (int visionCol = minVisCol; visionCol <= maxVisCol; visionCol ++) {
+				int distCol = visionCol - col;
+				int manhattanDistance = Math.abs(distRow) + Math.abs(distCol);
+
+				// Don't check a square that creature is on.
+				if (manhattanDistance == 0) {
+					continue;
+				}
+
+				if (strawberries.get(visionRow, visionCol) > 0 && (strawberryDist == 0 || manhattanDistance < strawberryDist)) {
+					strawberryDist = manhattanDistance;
+					strawberryRow = distRow;
+					strawberryCol = distCol;
+				}
+				if (mushrooms.get(visionRow, visionCol) > 0 && (mushroomDist == 0 || manhattanDistance < mushroomDist)) {
+					mushroomDist = manhattanDistance;
+					mushroomRow = distRow;
+					mushroomCol = distCol;
+				}
+				if (monsters.get(visionRow, visionCol) > 0 && (monsterDist == 0 || manhattanDistance < monsterDist)) {
+					monsterDist = manhattanDistance;
+					monsterRow = distRow;
+					monsterCol = distCol;
+				}
+				if (creatures.get(visionRow, visionCol) > 0 && (creatureDist == 0 || manhattanDistance < creatureDist)) {
+					creatureDist = manhattanDistance;
+					creatureRow = distRow;
+					creatureCol = distCol;
+				}
+			}
+		}
+
+		readings[2] = strawberryDist == 0 ? 0 : Layer.directionTo(strawberryRow, strawberryCol);
+		readings[3] = mushroomDist == 0 ? 0 : Layer.directionTo(mushroomRow, mushroomCol);
+		readings[4] = monsterDist == 0 ? 0 : Layer.directionTo(monsterRow, monsterCol);
+		readings[5] = creatureDist == 0 ? 0 : Layer.directionTo(creatureRow, creatureCol);
+	}
+
+	//==========================================================================
+	// Implement the creature's vision range
+	//==========================================================================
+
+	/**
+	 * creatureVision --- Simulate the vision range of a creature to an 8-square space
+	 * around the monster, then use manhattan distance formula to decide which 
+	 * item (if any) is closest to the creature in the game board.
+	 * @param w = the World the creature lives in
+	 * @param row,col = position of the creature who's vision needs to be created
+	 * @param locations = layer of items (mushrooms, monsters, creatures, strawberries)
+	 * @return int = representation for direction the monster must go to get to
+	 * the nearest item in the locations 2-D array
+	 */ 
+	public static int creatureVision(World w, int row, int col, Layer locations) {
+
+		// Restrains the creatures vision to the bounds of the game board.
+		int sight = w.getParameters().getCreatureSight(); // vision range on board
+		int minVisRow = Math.max(0, row - sight);
+		int maxVisRow = Math.min(row + sight, w.getRows() -1);
+		int minVisCol = Math.max(0, col - sight);
+		int maxVisCol = Math.min(col + sight, w.getCols() - 1);
+
+		boolean first = true; //Ensure that the first item found records the manhattan distance
+		int manhattanDistance = 0;
+
+		int distRow = 0; //distance in row direction
+		int distCol = 0; //distance in column direction
+		int itemDirection = 0; // integer representation of final direction to move
+
+		// Start checking spaces around the creature
+		for (int visionRow = minVisRow; visionRow <= maxVisRow; visionRow ++) {
+			for(int visionCol = minVisCol; visionCol <= maxVisCol; visionCol ++) {
+
+				// Don't check a square that creature is on.
+				if (!(row == visionRow && col == visionCol)) {
+
+					// Object has been sighted.
+					if (locations.get(visionRow, visionCol) > 0) {
+
+						// First sight, default values
+						if(first) {
+							manhattanDistance = Math.abs(visionRow - row) + Math.abs(visionCol - col);
+							distRow = visionRow - row;
+							distCol = visionCol - col;
+							first = false;
+						}
+
+						// Compare manhattan distances with each item within vision range and record shortest distances
+						else {
+							if (manhattanDistance > Math.abs(visionRow - row) + Math.abs(visionCol - col)) {
+								manhattanDistance = Math.abs(visionRow - row) + Math.abs(visionCol - col);
+								distRow = visionRow - row;
+								distCol = visionCol - col;
+							}
+						}
+					}
+				}
+			}
+
+			if (manhattanDistance != 0) {
+				// Row distance priority
+				if (Math.abs(distRow) >= Math.abs(distCol)) {
+					if (distRow < 0) {
+						itemDirection = MOVEUP;
+					}
+					else  {
+						itemDirection = MOVEDOWN;
+					}
+				}
+				// Column distance priority
+				else {
+					if (distCol > 0) {
+						itemDirection = MOVERIGHT;
+					}
+					else {
+						itemDirection = MOVELEFT;
+					}
+				}
+			}
+		}
+		return itemDirection;
+	}
+
+	//==========================================================================
+	// create a new chromosome from 2 parents
+	//==========================================================================
+
+	/**
+	 * nextChromo --- Takes chromosomes of 2 parents and creates a new, unique chromosome.
+	 * The parents are drawn from the generation's parent pool (see Selection)
+	 * and their genes are split by the world's crossover (see
+	 * Genome.Crossover); both are packed longs, so the child is a masked mix.
+	 * A lone survivor breeds with itself, and if nobody survived the child
+	 * gets a brand new random chromosome.
+	 * @param w = the World whose genetics stream and crossover are used
+	 * @param parents = pool of the creatures that survived the last generation
+	 * @return the brand new chromosome, packed
+	 */ 
+	public static long nextChromo(World w, Selection parents) {
+
+		if (parents.size() == 0) {
+			return w.newChromosome(); // the population died out: start again from scratch
+		}
+
+		RandomStream random = w.getGeneticsRandom();
+		int first = parents.pick(random);
+		long parent1 = parents.getGenome(first); // first parent from the pool
+		long parent2 = parents.getGenome(parents.pickOther(random, first)); // a different second parent
+
+		int length = Genome.GENES; // length of the chromosome
+
+		long nextChromo; // new chromosome
+
+		switch (w.getParameters().getCrossover()) {
+
+		case TWO_POINT:
+			int from = random.nextInt(length + 1); // section taken from parent 2
+			int to = random.nextInt(length + 1);
+			nextChromo = Genome.twoPoint(parent1, parent2, Math.min(from, to), Math.max(from, to));
+			break;
+
+		case UNIFORM:
+			nextChromo = Genome.uniform(parent1, parent2, random.nextLong()); // a coin flip per gene
+			break;
+
+		default:
+			int crossover = random.nextInt(length); //crossover point to split the chromosomes of parents
+			nextChromo = Genome.onePoint(parent1, parent2, crossover); // parent 1 until crossover point, parent 2 after
+		}
+
+		//------------------------------------------------
+		// Simulate mutations for variance among children
+		//------------------------------------------------
+
+		double mutationRate = random.nextDouble(); // Chance for mutation to occur = 1%
+
+		if (mutationRate < 0.05) {
+			int mutationIndex = random.nextInt(length);
+
+			if (mutationIndex == 0 || mutationIndex == 1) {			
+				nextChromo = Genome.with(nextChromo, mutationIndex, random.nextInt(1)); // Change chromosome for eat actions
+			}
+
+			else if (mutationIndex > 1 && mutationIndex < 7) {
+				nextChromo = Genome.with(nextChromo, mutationIndex, random.nextInt(4)); // Change chromosome for move actions
+			}
+			else
+				nextChromo = Genome.with(nextChromo, mutationIndex, random.nextInt(10)); // Change chromosome for weights
+		}
+		return nextChromo;	
+	}
+
+	//==========================================================================
+	// Creature Getters/Setters
+	//==========================================================================
+
+	public int getRow() {
+		return r;
+	}
+
+	public int getCol() {
+		return c;
+	}
+
+	public int getLifeForce() {
+		return lifeForce;
+	}
+
+	public void setRow(int newX) {
+		this.r = newX;
+	}
+
+	public void setCol(int newY) {
+		this.c = newY;
+	}
+
+	public int getTrackingNumber() {
+		return trackingNumber;
+	}
+	public long getGenome() {
+		return genome;
+	}
+}
\ No newline at end of file
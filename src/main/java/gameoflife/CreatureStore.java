@@ -0,0 +1,335 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: CreatureStore.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class CreatureStore {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private int size; // number of creatures in slots 0 .. size-1
+
+	// One column per creature attribute, indexed by slot
+	private int[] row; // creature row position
+	private int[] col; // creature column position
+	private int[] energy; // life force: number of actions left before dying
+	private int[] trackingNumber; // number given at creation, for testing purposes
+	private long[] genome; // packed chromosome (see Genome)
+	private byte[] decisions; // compiled chromosomes: entry k of slot i is decisions[i * Creature.DECISIONS + k]
+	private int[] quietUntil; // last step the creature is known to see nothing (see Creature.quietSteps), negative = look
+
+	// Creatures that died stay in their slot, flagged, until the end of the step
+	private boolean[] dead;
+	private int deadCount; // number of flagged slots
+	private int[] deaths = new int[DeathCause.values().length]; // deaths this generation, by cause
+
+	//==========================================================================
+	// CreatureStore Constructor
+	//==========================================================================
+
+	/**
+	 * CreatureStore --- Holds a whole creature population as parallel primitive
+	 * arrays (structure of arrays), so the step loop walks plain int columns
+	 * instead of chasing a pointer to a Creature object per agent, and never
+	 * allocates.
+	 * @param capacity = number of creatures to make room for up front
+	 * @return: none
+	 */
+	public CreatureStore(int capacity) {
+		capacity = Math.max(capacity, 1);
+		row = new int[capacity];
+		col = new int[capacity];
+		energy = new int[capacity];
+		trackingNumber = new int[capacity];
+		genome = new long[capacity];
+		decisions = new byte[capacity * Creature.DECISIONS];
+		quietUntil = new int[capacity];
+		dead = new boolean[capacity];
+	}
+
+	//==========================================================================
+	// Adding and removing creatures
+	//==========================================================================
+
+	/**
+	 * add --- Adds a creature to the end of the store, growing the columns if needed.
+	 * @param r,c = row/column position
+	 * @param lifeForce = number of steps the creature can make
+	 * @param chromosome = packed chromosome
+	 * @param tracking = number given at creation, for testing purposes
+	 * @return the slot the creature was stored in
+	 */
+	public int add(int r, int c, int lifeForce, long chromosome, int tracking) {
+		if (size == row.length) {
+			grow(size * 2);
+		}
+		int slot = size++;
+		row[slot] = r;
+		col[slot] = c;
+		energy[slot] = lifeForce;
+		trackingNumber[slot] = tracking;
+		genome[slot] = chromosome;
+		Creature.compileDecisions(chromosome, decisions, slot * Creature.DECISIONS);
+		quietUntil[slot] = -1;
+		return slot;
+	}
+
+	private void grow(int capacity) {
+		row = Arrays.copyOf(row, capacity);
+		col = Arrays.copyOf(col, capacity);
+		energy = Arrays.copyOf(energy, capacity);
+		trackingNumber = Arrays.copyOf(trackingNumber, capacity);
+		genome = Arrays.copyOf(genome, capacity);
+		decisions = Arrays.copyOf(decisions, capacity * Creature.DECISIONS);
+		quietUntil = Arrays.copyOf(quietUntil, capacity);
+		dead = Arrays.copyOf(dead, capacity);
+	}
+
+	/**
+	 * kill --- Flags a creature as dead. It keeps its slot (and is skipped by
+	 * the step loop) until removeDead is called. A creature can only die once,
+	 * so it is counted under the first cause only.
+	 * @param slot = the creature that died
+	 * @param cause = why it died
+	 * @return: none
+	 */
+	public void kill(int slot, DeathCause cause) {
+		if (!dead[slot]) {
+			dead[slot] = true;
+			deadCount ++;
+			deaths[cause.ordinal()] ++;
+		}
+	}
+
+	/**
+	 * release --- Flags a live creature that has left this store (stepped
+	 * into another tile, see TileWorker) so removeDead drops its slot like a
+	 * dead one's, without counting a death.
+	 * @param slot = the creature that left
+	 * @return: none
+	 */
+	public void release(int slot) {
+		if (!dead[slot]) {
+			dead[slot] = true;
+			deadCount ++;
+		}
+	}
+
+	/**
+	 * removeDead --- Removes every flagged creature in one sweep: each dead slot
+	 * is filled by the last live creature of the store (swap-remove), so the cost
+	 * is one pass no matter how many died. Creature order is not kept.
+	 * @param index = the cell index whose links follow the slots
+	 * @return: none
+	 */
+	public void removeDead(CellIndex index) {
+		int i = 0;
+		while (deadCount > 0 && i < size) {
+			if (!dead[i]) {
+				i ++;
+				continue;
+			}
+
+			// Drop the dead creature; the last creature in the store takes its slot
+			dead[i] = false;
+			deadCount --;
+			size --;
+			if (i != size) {
+				dead[i] = dead[size];
+				dead[size] = false;
+				moveSlot(size, i, index);
+			}
+		}
+	}
+
+	private void moveSlot(int from, int to, CellIndex index) {
+		row[to] = row[from];
+		col[to] = col[from];
+		energy[to] = energy[from];
+		trackingNumber[to] = trackingNumber[from];
+		genome[to] = genome[from];
+		quietUntil[to] = quietUntil[from];
+		System.arraycopy(decisions, from * Creature.DECISIONS, decisions, to * Creature.DECISIONS, Creature.DECISIONS);
+		index.relocate(from, to, row[to], col[to]);
+	}
+
+	/**
+	 * clear --- Empties the store and its death counters, keeping its capacity
+	 * for the next generation.
+	 * @param : none
+	 * @return: none
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			dead[i] = false;
+		}
+		size = 0;
+		deadCount = 0;
+		for (int c = 0; c < deaths.length; c++) {
+			deaths[c] = 0;
+		}
+	}
+
+	//==========================================================================
+	// Copies for the genetic algorithm
+	//==========================================================================
+
+	/**
+	 * toCreature --- Copies one creature out of the store as a Creature object
+	 * (used between generations for parent selection and migration).
+	 * @param slot = the creature to copy
+	 * @return a new Creature
+	 */
+	public Creature toCreature(int slot) {
+		return new Creature(row[slot], col[slot], energy[slot], genome[slot], trackingNumber[slot]);
+	}
+
+	/**
+	 * toCreatures --- Copies every creature out of the store, in slot order.
+	 * @param : none
+	 * @return arraylist of Creature copies
+	 */
+	public ArrayList<Creature> toCreatures() {
+		ArrayList<Creature> list = new ArrayList<Creature>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(toCreature(i));
+		}
+		return list;
+	}
+
+	/**
+	 * replace --- Gives a slot the energy, chromosome and tracking number of
+	 * another creature, keeping the slot's position on the board.
+	 * @param slot = the slot to overwrite
+	 * @param c = the creature to copy in
+	 * @return: none
+	 */
+	public void replace(int slot, Creature c) {
+		energy[slot] = c.getLifeForce();
+		trackingNumber[slot] = c.getTrackingNumber();
+		genome[slot] = c.getGenome();
+		Creature.compileDecisions(genome[slot], decisions, slot * Creature.DECISIONS);
+		quietUntil[slot] = -1;
+	}
+
+	//==========================================================================
+	// Checkpoints
+	//==========================================================================
+
+	/**
+	 * save --- Writes every column, slot by slot, and the death counters. Only
+	 * valid between steps, when no slot is flagged dead.
+	 * @param out = checkpoint being written
+	 * @return: none
+	 */
+	public void save(Checkpoint.Output out) {
+		if (deadCount > 0) {
+			throw new IllegalStateException("creatures can only be saved between steps");
+		}
+		out.writeInt(size);
+		out.writeInts(row, 0, size);
+		out.writeInts(col, 0, size);
+		out.writeInts(energy, 0, size);
+		out.writeInts(trackingNumber, 0, size);
+		out.writeLongs(genome, 0, size);
+		out.writeInts(deaths, 0, deaths.length);
+	}
+
+	/**
+	 * load --- Replaces the store's contents with creatures written by save,
+	 * in the same slots.
+	 * @param in = checkpoint being read
+	 * @return: none
+	 */
+	public void load(Checkpoint.Input in) {
+		clear();
+		int count = in.readCount(4 * 4 + 8); // four int columns and the genome
+		if (count > row.length) {
+			grow(count);
+		}
+		in.readInts(row, 0, count);
+		in.readInts(col, 0, count);
+		in.readInts(energy, 0, count);
+		in.readInts(trackingNumber, 0, count);
+		in.readLongs(genome, 0, count);
+		in.readInts(deaths, 0, deaths.length);
+		size = count;
+		for (int i = 0; i < count; i++) {
+			Creature.compileDecisions(genome[i], decisions, i * Creature.DECISIONS); // tables are not saved
+			quietUntil[i] = -1; // nor what the creature saw, so it looks again
+		}
+	}
+
+	//==========================================================================
+	// Getters/Setters
+	//==========================================================================
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isDead(int slot) {
+		return dead[slot];
+	}
+
+	public int getDeaths(DeathCause cause) {
+		return deaths[cause.ordinal()];
+	}
+
+	public int getRow(int slot) {
+		return row[slot];
+	}
+
+	public int getCol(int slot) {
+		return col[slot];
+	}
+
+	public void setPosition(int slot, int r, int c) {
+		row[slot] = r;
+		col[slot] = c;
+	}
+
+	public int getEnergy(int slot) {
+		return energy[slot];
+	}
+
+	public void setEnergy(int slot, int lifeForce) {
+		energy[slot] = lifeForce;
+	}
+
+	public int getTrackingNumber(int slot) {
+		return trackingNumber[slot];
+	}
+
+	public int getGene(int slot, int gene) {
+		return Genome.gene(genome[slot], gene);
+	}
+
+	public int getDecision(int slot, int situation) {
+		return decisions[slot * Creature.DECISIONS + situation];
+	}
+
+	public int getQuietUntil(int slot) {
+		return quietUntil[slot];
+	}
+
+	public void setQuietUntil(int slot, int step) {
+		quietUntil[slot] = step;
+	}
+
+	public long getGenome(int slot) {
+		return genome[slot];
+	}
+
+	public int getCapacity() {
+		return row.length;
+	}
+}
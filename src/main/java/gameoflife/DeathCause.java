@@ -0,0 +1,14 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: DeathCause.java
+//==========================================================================
+
+package gameoflife;
+
+/**
+ * DeathCause --- why a creature died, used for the per-cause death counters.
+ * STARVATION: ran out of life force. MUSHROOM: ate a mushroom. MONSTER: was
+ * eaten by a monster.
+ */
+public enum DeathCause { STARVATION, MUSHROOM, MONSTER }
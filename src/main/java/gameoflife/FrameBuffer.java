@@ -0,0 +1,119 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: FrameBuffer.java
+//==========================================================================
+
+package gameoflife;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class FrameBuffer {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	/**
+	 * Frame --- one picture of the board, one pixel per cell. rendered[k] is
+	 * the version of chunk k (see BoardPanel) the pixels currently show.
+	 */
+	public static class Frame {
+		public final BufferedImage image;
+		public final int[] pixels; // the image's own pixel array, row major
+		public final int[] rendered;
+		public int generation; // when the picture was taken
+		public int step;
+		long sequence; // publication number, 0 = never published
+
+		Frame(int rows, int cols, int chunks) {
+			image = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_RGB);
+			pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+			rendered = new int[chunks];
+		}
+	}
+
+	private Frame back; // being drawn by the simulation thread
+	private AtomicReference<Frame> middle; // last published frame, or one handed back by the viewer
+	private Frame front; // being shown by the viewer
+
+	private long published; // frames published (simulation thread only)
+	private AtomicLong taken = new AtomicLong(); // sequence of the frame the viewer took last
+
+	//==========================================================================
+	// FrameBuffer Constructor
+	//==========================================================================
+
+	/**
+	 * FrameBuffer --- A triple buffer that hands board frames from the
+	 * simulation thread to the Swing thread without either one waiting. The
+	 * simulation draws into the back frame and swaps it with the middle one in
+	 * a single atomic exchange; the viewer swaps its front frame with the middle
+	 * one whenever a newer frame is there. Each frame belongs to exactly one
+	 * side at a time, so the viewer never sees a frame that is being drawn.
+	 * @param rows,cols = dimensions of the game board
+	 * @param chunks = number of chunks the board is split into
+	 * @return: none
+	 */
+	public FrameBuffer(int rows, int cols, int chunks) {
+		back = new Frame(rows, cols, chunks);
+		middle = new AtomicReference<Frame>(new Frame(rows, cols, chunks));
+		front = new Frame(rows, cols, chunks);
+	}
+
+	//==========================================================================
+	// Simulation side
+	//==========================================================================
+
+	/**
+	 * wanted --- Whether the viewer has taken the last published frame. While
+	 * it has not, drawing another one would be wasted work, so the simulation
+	 * only draws at the rate the viewer shows frames.
+	 * @param : none
+	 * @return true if a new frame should be drawn
+	 */
+	public boolean wanted() {
+		return taken.get() == published;
+	}
+
+	public Frame back() {
+		return back;
+	}
+
+	/**
+	 * publish --- Hands the finished back frame to the viewer and takes the
+	 * middle frame as the new back frame.
+	 * @param : none
+	 * @return: none
+	 */
+	public void publish() {
+		back.sequence = ++published;
+		back = middle.getAndSet(back);
+	}
+
+	//==========================================================================
+	// Viewer side
+	//==========================================================================
+
+	/**
+	 * take --- Swaps in the newest published frame if there is one the viewer
+	 * has not shown yet. Frames published in between are skipped.
+	 * @param : none
+	 * @return true if the front frame changed
+	 */
+	public boolean take() {
+		if (middle.get().sequence <= front.sequence) {
+			return false;
+		}
+		front = middle.getAndSet(front);
+		taken.set(front.sequence);
+		return true;
+	}
+
+	public Frame front() {
+		return front;
+	}
+}
@@ -0,0 +1,82 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 5/10/2015
+// Class: GamePanel.java
+//==========================================================================
+
+package gameoflife;
+
+import javax.swing.JFrame;
+
+
+public class GamePanel extends JFrame implements SimulationObserver {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private World world; // the world being visualized
+	public BoardPanel board; // the whole board, drawn as one image
+
+	//==========================================================================
+	// Visual Panel
+	//==========================================================================
+	/**
+	 * GamePanel ---- Creates the visual aspect of the game: a window holding
+	 * one BoardPanel that draws every cell of the board.
+	 * @param world = the world whose game board is shown
+	 * @return = no return value
+	 */ 
+	public GamePanel(World world) {
+		this.world = world;
+		setTitle("Game of Life");
+		setDefaultCloseOperation (JFrame.EXIT_ON_CLOSE);
+
+		board = new BoardPanel(world);
+		getContentPane().add(board);
+		setVisible (true);
+		pack();
+	}
+
+	/**
+	 * attach --- Opens the game board window and registers it as an observer
+	 * of the engine so it is redrawn after every time step.
+	 * @param engine = the engine whose board will be visualized
+	 * @return: the GamePanel that was created
+	 */
+	public static GamePanel attach(SimulationEngine engine) {
+		GamePanel gp = new GamePanel(engine.getWorld());
+		engine.addObserver(gp);
+		return gp;
+	}
+
+	//==========================================================================
+	// Simulation Observer
+	//==========================================================================
+
+	public void generationStarted(int generation) {
+		redrawGamePanel(); // Creates visuals
+	}
+
+	public void stepCompleted(int generation, int step) {
+		redrawGamePanel(); // Continuously visualize each step of the game
+	}
+
+	public void generationCompleted(int generation, double averageLifeForce) {
+	}
+
+	//==========================================================================
+	// Redraw the board after each moment in time
+	//==========================================================================
+
+	/**
+	 * redrawGamePanel --- visualizes the character locations on the game board.
+	 * Runs on the simulation thread and never waits for Swing: a frame is only
+	 * drawn when the window has shown the previous one (see BoardPanel.render).
+	 * @param : none
+	 * @return: none
+	 */ 
+	public void redrawGamePanel() {
+		board.render();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: Genome.java
+//==========================================================================
+
+package gameoflife;
+
+public class Genome {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final int GENES = 13; // length of every chromosome
+	public static final int BITS = 4; // bits per gene: every gene is a number from 0 to 15
+
+	private static final long GENE = (1L << BITS) - 1; // mask of gene 0
+	private static final long ALL = (1L << (GENES * BITS)) - 1; // mask of every gene
+	private static final long LOWEST = ALL / GENE; // lowest bit of every gene (0x1111...)
+
+	/**
+	 * Crossover --- how a child's genes are split between its two parents.
+	 * ONE_POINT takes a prefix of genes from the first parent and the rest
+	 * from the second, TWO_POINT takes a middle section from the second, and
+	 * UNIFORM picks each gene from either parent with even odds.
+	 */
+	public enum Crossover {
+		ONE_POINT, TWO_POINT, UNIFORM
+	}
+
+	//==========================================================================
+	// Genome Constructor
+	//==========================================================================
+
+	/**
+	 * Genome --- Static helpers for chromosomes packed into a single long, gene g
+	 * in bits 4g .. 4g+3. The genes are small numbers (two booleans, five values
+	 * up to 4, six weights up to 9), so 13 of them fit in 52 bits: a chromosome
+	 * is one primitive that can be stored in a long[] column, compared and
+	 * hashed directly, and crossed over with a couple of mask operations.
+	 * @param : none
+	 * @return: none
+	 */
+	private Genome() {
+	}
+
+	//==========================================================================
+	// Packing
+	//==========================================================================
+
+	/**
+	 * pack --- Packs a chromosome given gene by gene.
+	 * @param genes = GENES values from 0 to 15
+	 * @return the packed genome
+	 */
+	public static long pack(int[] genes) {
+		long genome = 0;
+		for (int g = GENES - 1; g >= 0; g--) {
+			genome = (genome << BITS) | (genes[g] & GENE);
+		}
+		return genome;
+	}
+
+	public static int gene(long genome, int g) {
+		return (int) ((genome >>> (g * BITS)) & GENE);
+	}
+
+	/**
+	 * with --- The genome with one gene replaced (a per-gene mutation).
+	 * @param genome = packed genome
+	 * @param g = which gene
+	 * @param value = new value from 0 to 15
+	 * @return the changed genome
+	 */
+	public static long with(long genome, int g, int value) {
+		int shift = g * BITS;
+		return (genome & ~(GENE << shift)) | ((value & GENE) << shift);
+	}
+
+	//==========================================================================
+	// Crossover
+	//==========================================================================
+
+	/**
+	 * prefix --- Mask of the genes before a given one.
+	 * @param g = first gene not in the mask, 0 to GENES
+	 * @return mask covering genes 0 .. g-1
+	 */
+	public static long prefix(int g) {
+		return (1L << (g * BITS)) - 1;
+	}
+
+	/**
+	 * mix --- The genes of a under mask, and of b everywhere else.
+	 * @param a,b = parent genomes
+	 * @param mask = bits to take from a
+	 * @return the child genome
+	 */
+	public static long mix(long a, long b, long mask) {
+		return (a & mask) | (b & ~mask);
+	}
+
+	/**
+	 * onePoint --- Genes before point come from a, the rest from b.
+	 * @param a,b = parent genomes
+	 * @param point = first gene taken from b, 0 to GENES
+	 * @return the child genome
+	 */
+	public static long onePoint(long a, long b, int point) {
+		return mix(a, b, prefix(point));
+	}
+
+	/**
+	 * twoPoint --- Genes from..to-1 come from b, the others from a.
+	 * @param a,b = parent genomes
+	 * @param from,to = section taken from b, 0 <= from <= to <= GENES
+	 * @return the child genome
+	 */
+	public static long twoPoint(long a, long b, int from, int to) {
+		return mix(b, a, prefix(to) & ~prefix(from));
+	}
+
+	/**
+	 * uniform --- Each gene comes from a or b according to one random bit: the
+	 * lowest bit of every gene's nibble is kept and multiplied by 0xF, which
+	 * spreads it over the whole nibble without carries.
+	 * @param a,b = parent genomes
+	 * @param bits = random bits
+	 * @return the child genome
+	 */
+	public static long uniform(long a, long b, long bits) {
+		return mix(a, b, (bits & LOWEST) * GENE);
+	}
+}
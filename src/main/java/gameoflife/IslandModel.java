@@ -0,0 +1,153 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: IslandModel.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class IslandModel {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	/**
+	 * Topology --- which islands send their fittest creatures to which.
+	 * RING: island i sends to island i+1. FULLY_CONNECTED: every island sends
+	 * to every other island.
+	 */
+	public enum Topology { RING, FULLY_CONNECTED }
+
+	private SimulationEngine[] islands; // one independent world per island
+	private int migrationInterval; // generations between migrations (one epoch)
+	private int migrants; // creatures sent along each link of the topology
+	private Topology topology;
+	private ForkJoinPool pool;
+
+	//==========================================================================
+	// Island Model Constructor
+	//==========================================================================
+
+	/**
+	 * IslandModel --- Creates a number of islands that evolve separately and
+	 * exchange their fittest creatures every migrationInterval generations.
+	 * @param params = parameters copied into every island's world
+	 * @param islandCount = number of islands (populations)
+	 * @param migrationInterval = generations in one epoch, between migrations, at least 1
+	 * @param migrants = creatures sent along each link of the topology
+	 * @param topology = RING or FULLY_CONNECTED
+	 * @param pool = fork-join pool the islands evolve on
+	 * @return: none
+	 */
+	public IslandModel(SimulationParameters params, int islandCount, int migrationInterval,
+			int migrants, Topology topology, ForkJoinPool pool) {
+		if (migrationInterval < 1) {
+			throw new IllegalArgumentException("migration interval must be at least 1 generation, got " + migrationInterval);
+		}
+		this.migrationInterval = migrationInterval;
+		this.migrants = migrants;
+		this.topology = topology;
+		this.pool = pool;
+
+		islands = new SimulationEngine[islandCount];
+		for (int i = 0; i < islandCount; i ++) {
+			islands[i] = new SimulationEngine(new World(params.copy(), RandomStream.derive(params.getSeed(), i)));
+		}
+	}
+
+	//==========================================================================
+	// Run the Islands
+	//==========================================================================
+
+	/**
+	 * run --- Evolves all islands in parallel, one epoch at a time. After each
+	 * epoch the aggregate fitness is reported and the fittest creatures migrate.
+	 * @param generations = total generations every island runs
+	 * @return: average fitness over all islands in the final epoch
+	 */
+	public double run(int generations) {
+		double[] fitness = new double[islands.length]; // fitness of each island's latest generation
+		double aggregate = 0;
+		int epoch = 0;
+
+		for (int g = 0; g < generations; g += migrationInterval) {
+			int epochLength = Math.min(migrationInterval, generations - g);
+			ArrayList<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+
+			for (int i = 0; i < islands.length; i ++) {
+				final int island = i;
+				tasks.add(pool.submit(() -> {
+					for (int e = 0; e < epochLength; e ++) {
+						fitness[island] = islands[island].runGeneration();
+					}
+				}));
+			}
+			for (ForkJoinTask<?> task : tasks) {
+				task.join();
+			}
+
+			aggregate = 0;
+			double best = fitness[0];
+			for (double f : fitness) {
+				aggregate += f;
+				best = Math.max(best, f);
+			}
+			aggregate /= islands.length;
+			System.out.println("epoch " + epoch + "\tgeneration " + (g + epochLength - 1)
+					+ "\taverage " + aggregate + "\tbest " + best);
+
+			if (g + epochLength < generations) {
+				migrate();
+			}
+			epoch ++;
+		}
+		return aggregate;
+	}
+
+	//==========================================================================
+	// Migration
+	//==========================================================================
+
+	/**
+	 * migrate --- Sends copies of each island's fittest creatures along the
+	 * topology. Every island picks its emigrants before any island receives
+	 * immigrants, so the result does not depend on island order.
+	 * @param : none
+	 * @return: none
+	 */
+	public void migrate() {
+		if (islands.length < 2) {
+			return; // nobody to migrate to
+		}
+
+		ArrayList<ArrayList<Creature>> emigrants = new ArrayList<ArrayList<Creature>>();
+		for (SimulationEngine island : islands) {
+			emigrants.add(island.getWorld().fittestCreatures(migrants));
+		}
+
+		for (int to = 0; to < islands.length; to ++) {
+			ArrayList<Creature> arriving = new ArrayList<Creature>();
+
+			if (topology == Topology.RING) {
+				arriving.addAll(emigrants.get((to + islands.length - 1) % islands.length));
+			}
+			else {
+				for (int from = 0; from < islands.length; from ++) {
+					if (from != to) {
+						arriving.addAll(emigrants.get(from));
+					}
+				}
+			}
+			islands[to].getWorld().acceptMigrants(arriving);
+		}
+	}
+
+	public SimulationEngine[] getIslands() {
+		return islands;
+	}
+}
@@ -0,0 +1,658 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: Layer.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.Arrays;
+
+public class Layer {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final int CHUNK_SHIFT = 6;
+	public static final int CHUNK = 1 << CHUNK_SHIFT; // chunks are CHUNK x CHUNK cells
+	private static final int CHUNK_MASK = CHUNK - 1;
+	private static final int POOL = 64; // empty chunks kept for reuse
+	private static final int NONE = Integer.MIN_VALUE; // no item in a vision row
+
+	private int rows; // Row dimension of the board
+	private int cols; // Column dimension of the board
+	private boolean bitboard; // true to keep occupancy bits next to the counts
+
+	private ChunkTable<Chunk> chunks = new ChunkTable<Chunk>(); // only chunks with items in them exist
+	private Chunk[] pool = new Chunk[POOL]; // released chunks, all zero, ready for reuse
+	private int pooled;
+
+	// Optional change tracking for renderers: one flag per chunk of the board
+	// (allocated or not), set whenever a cell in it changes. null = not tracked.
+	private boolean[] dirty;
+	private int chunkCols; // chunks per board row
+
+	/**
+	 * Chunk --- the counts of one CHUNK x CHUNK block of cells. With the
+	 * bitboard, bit c of bits[r] is set while counts[r * CHUNK + c] > 0, so
+	 * a chunk row of occupancy is exactly one word, and bit r of used is set
+	 * while bits[r] is not zero, so empty rows can be skipped without reading them.
+	 */
+	private static class Chunk {
+		int[] counts = new int[CHUNK * CHUNK];
+		long[] bits;
+		long used;
+		int occupied; // number of cells whose count is not zero
+	}
+
+	//==========================================================================
+	// Layer Constructor
+	//==========================================================================
+
+	/**
+	 * Layer --- One kind of item (strawberries, mushrooms, monsters or creatures)
+	 * counted on every cell of the board. The board is split into chunks that are
+	 * only allocated while something is in them, so memory grows with the area
+	 * that is occupied rather than the area of the board. All changes go through
+	 * increment and decrement so the optional bitboard always agrees with the counts.
+	 * @param rows,cols = dimensions of the game board
+	 * @param bitboard = true to also keep a one-bit-per-cell occupancy bitset
+	 * @return: none
+	 */
+	public Layer(int rows, int cols, boolean bitboard) {
+		this.rows = rows;
+		this.cols = cols;
+		this.bitboard = bitboard;
+		this.chunkCols = (cols + CHUNK - 1) >>> CHUNK_SHIFT;
+	}
+
+	//==========================================================================
+	// Counts
+	//==========================================================================
+
+	public int get(int row, int col) {
+		Chunk chunk = chunks.get(ChunkTable.key(row >>> CHUNK_SHIFT, col >>> CHUNK_SHIFT));
+		if (chunk == null) {
+			return 0;
+		}
+		return chunk.counts[((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK)];
+	}
+
+	/**
+	 * increment --- adds one item to a cell
+	 * @param row,col = the cell
+	 * @return: none
+	 */
+	public void increment(int row, int col) {
+		change(row, col, 1);
+	}
+
+	/**
+	 * decrement --- removes one item from a cell
+	 * @param row,col = the cell
+	 * @return: none
+	 */
+	public void decrement(int row, int col) {
+		change(row, col, -1);
+	}
+
+	/**
+	 * add --- adds (or, with a negative amount, removes) several items of a
+	 * cell at once, e.g. copying a neighbouring tile's counts into the halo
+	 * @param row,col = the cell
+	 * @param amount = items added, never more than the cell holds when negative
+	 * @return: none
+	 */
+	public void add(int row, int col, int amount) {
+		if (amount != 0) {
+			change(row, col, amount);
+		}
+	}
+
+	private void change(int row, int col, int amount) {
+		long key = ChunkTable.key(row >>> CHUNK_SHIFT, col >>> CHUNK_SHIFT);
+		Chunk chunk = chunks.get(key);
+		if (chunk == null) {
+			chunk = newChunk();
+			chunks.put(key, chunk);
+		}
+
+		int r = row & CHUNK_MASK;
+		int c = col & CHUNK_MASK;
+		int cell = (r << CHUNK_SHIFT) | c;
+		int before = chunk.counts[cell];
+		int after = before + amount;
+		chunk.counts[cell] = after;
+
+		if (before == 0) {
+			chunk.occupied ++;
+		}
+		else if (after == 0) {
+			chunk.occupied --;
+		}
+
+		if (dirty != null) {
+			dirty[(row >>> CHUNK_SHIFT) * chunkCols + (col >>> CHUNK_SHIFT)] = true;
+		}
+
+		if (chunk.bits != null) {
+			if (after > 0) {
+				chunk.bits[r] |= 1L << c;
+				chunk.used |= 1L << r;
+			}
+			else {
+				chunk.bits[r] &= ~(1L << c);
+				if (chunk.bits[r] == 0) {
+					chunk.used &= ~(1L << r);
+				}
+			}
+		}
+
+		// Give empty chunks back; memory follows the occupied area
+		if (chunk.occupied == 0) {
+			chunks.remove(key);
+			release(chunk);
+		}
+	}
+
+	private Chunk newChunk() {
+		if (pooled > 0) {
+			Chunk chunk = pool[--pooled];
+			pool[pooled] = null;
+			return chunk;
+		}
+		Chunk chunk = new Chunk();
+		if (bitboard) {
+			chunk.bits = new long[CHUNK];
+		}
+		return chunk;
+	}
+
+	private void release(Chunk chunk) {
+		if (pooled < POOL) {
+			pool[pooled++] = chunk; // already all zero: every cell count went back to 0
+		}
+	}
+
+	/**
+	 * clear --- removes every item from the board
+	 * @param : none
+	 * @return: none
+	 */
+	public void clear() {
+		for (int i = 0; i < chunks.capacity(); i++) {
+			Chunk chunk = chunks.valueAt(i);
+			if (chunk != null && dirty != null) {
+				long key = chunks.keyAt(i);
+				dirty[(int) (key >>> 32) * chunkCols + (int) key] = true;
+			}
+			if (chunk != null && pooled < POOL) {
+				Arrays.fill(chunk.counts, 0);
+				if (chunk.bits != null) {
+					Arrays.fill(chunk.bits, 0);
+				}
+				chunk.used = 0;
+				chunk.occupied = 0;
+				pool[pooled++] = chunk;
+			}
+		}
+		chunks.clear();
+	}
+
+	/**
+	 * getChunkCount --- number of chunks currently allocated
+	 * @param : none
+	 * @return: chunk count
+	 */
+	public int getChunkCount() {
+		return chunks.size();
+	}
+
+	//==========================================================================
+	// Change tracking
+	//==========================================================================
+
+	/**
+	 * trackChanges --- Starts flagging every chunk whose cells change, so a
+	 * renderer only has to look at the parts of the board that changed. Costs
+	 * one flag per chunk of the board, which is why it is off until asked for.
+	 * Every chunk starts flagged.
+	 * @param : none
+	 * @return: none
+	 */
+	public void trackChanges() {
+		if (dirty == null) {
+			dirty = new boolean[((rows + CHUNK - 1) >>> CHUNK_SHIFT) * chunkCols];
+		}
+		Arrays.fill(dirty, true);
+	}
+
+	/**
+	 * takeChanged --- Whether a chunk changed since the last call, clearing its flag.
+	 * @param chunkRow,chunkCol = the chunk (cell row/column divided by CHUNK)
+	 * @return true if any cell of the chunk changed
+	 */
+	public boolean takeChanged(int chunkRow, int chunkCol) {
+		int k = chunkRow * chunkCols + chunkCol;
+		boolean changed = dirty[k];
+		dirty[k] = false;
+		return changed;
+	}
+
+	/**
+	 * chunkCounts --- The cell counts of one chunk, for renderers that read a
+	 * whole chunk at once. The array must not be changed.
+	 * @param chunkRow,chunkCol = the chunk (cell row/column divided by CHUNK)
+	 * @return counts[r * CHUNK + c], or null if nothing is in the chunk
+	 */
+	public int[] chunkCounts(int chunkRow, int chunkCol) {
+		Chunk chunk = chunks.get(ChunkTable.key(chunkRow, chunkCol));
+		return chunk == null ? null : chunk.counts;
+	}
+
+	//==========================================================================
+	// Checkpoints
+	//==========================================================================
+
+	/**
+	 * save --- Writes every allocated chunk: its key and its cell counts.
+	 * @param out = checkpoint being written
+	 * @return: none
+	 */
+	public void save(Checkpoint.Output out) {
+		out.writeInt(chunks.size());
+		for (int i = 0; i < chunks.capacity(); i++) {
+			Chunk chunk = chunks.valueAt(i);
+			if (chunk != null) {
+				out.writeLong(chunks.keyAt(i));
+				out.writeInts(chunk.counts, 0, chunk.counts.length);
+			}
+		}
+	}
+
+	/**
+	 * load --- Replaces the contents of the layer with chunks written by save,
+	 * rebuilding the occupancy bits from the counts.
+	 * @param in = checkpoint being read
+	 * @return: none
+	 */
+	public void load(Checkpoint.Input in) {
+		clear();
+		int count = in.readInt();
+		for (int k = 0; k < count; k++) {
+			long key = in.readLong();
+			Chunk chunk = newChunk();
+			in.readInts(chunk.counts, 0, chunk.counts.length);
+
+			for (int cell = 0; cell < chunk.counts.length; cell++) {
+				if (chunk.counts[cell] != 0) {
+					chunk.occupied ++;
+					if (chunk.bits != null) {
+						chunk.bits[cell >>> CHUNK_SHIFT] |= 1L << (cell & CHUNK_MASK);
+						chunk.used |= 1L << (cell >>> CHUNK_SHIFT);
+					}
+				}
+			}
+			chunks.put(key, chunk);
+			if (dirty != null) {
+				dirty[(int) (key >>> 32) * chunkCols + (int) key] = true;
+			}
+		}
+	}
+
+	//==========================================================================
+	// Bitboard queries
+	//==========================================================================
+
+	public boolean hasBitboard() {
+		return bitboard;
+	}
+
+	/**
+	 * nearestDirection --- Bitboard version of the creature/monster vision scan.
+	 * Finds the nearest occupied cell (manhattan distance) within sight of a
+	 * cell, not counting the cell itself. Rows are visited outwards from the
+	 * looker, the one above before the one below, and the search stops once
+	 * the rows left are further away than the best item found, so it usually
+	 * ends a few rows out however large sight is. Rows with nothing in them are
+	 * skipped with the chunks' used bits, and in the others the closest item to
+	 * the left and to the right is a leading/trailing zero count. Ties go to
+	 * the first item in row by row order, exactly like the scalar scan.
+	 * @param row,col = the cell doing the looking
+	 * @param sight = vision range, any size
+	 * @return direction towards the nearest item (see directionTo), 0 if none
+	 */
+	public int nearestDirection(int row, int col, int sight) {
+		return sight < CHUNK ? nearestNarrow(row, col, sight) : nearestWide(row, col, sight);
+	}
+
+	// Below CHUNK the window lies in the looker's chunk column and the ones
+	// either side, so each band (chunk row) is three lookups and each of its
+	// rows three words
+	private int nearestNarrow(int row, int col, int sight) {
+		int minVisRow = Math.max(0, row - sight);
+		int maxVisRow = Math.min(row + sight, rows - 1);
+		int minVisCol = Math.max(0, col - sight);
+		int maxVisCol = Math.min(col + sight, cols - 1);
+
+		int at = col & CHUNK_MASK;
+		int home = col >>> CHUNK_SHIFT;
+		int base = col - at;
+		long westCols = minVisCol < base ? -1L << (minVisCol & CHUNK_MASK) : 0;
+		long homeCols = (-1L << Math.max(minVisCol - base, 0)) & (-1L >>> (CHUNK_MASK - Math.min(maxVisCol - base, CHUNK_MASK)));
+		long eastCols = maxVisCol > base + CHUNK_MASK ? -1L >>> (CHUNK_MASK - (maxVisCol & CHUNK_MASK)) : 0;
+
+		int bestDist = Integer.MAX_VALUE; // nothing seen yet
+		int bestRow = 0;
+		int bestCol = 0;
+
+		// The band of the rows above the looker, then of the rows below it
+		int aboveBand = -1;
+		Chunk aboveWest = null, aboveHome = null, aboveEast = null;
+		int belowBand = -1;
+		Chunk belowWest = null, belowHome = null, belowEast = null;
+
+		for (int distRow = 0; distRow <= sight && distRow <= bestDist; distRow ++) {
+			int visionRow = row - distRow;
+			if (visionRow >= minVisRow) {
+				if (visionRow >>> CHUNK_SHIFT != aboveBand) {
+					aboveBand = visionRow >>> CHUNK_SHIFT;
+					aboveWest = westCols == 0 ? null : chunks.get(ChunkTable.key(aboveBand, home - 1));
+					aboveHome = chunks.get(ChunkTable.key(aboveBand, home));
+					aboveEast = eastCols == 0 ? null : chunks.get(ChunkTable.key(aboveBand, home + 1));
+				}
+				int r = visionRow & CHUNK_MASK;
+				long self = distRow == 0 ? ~(1L << at) : -1L; // Don't check a square that the looker is on.
+				int distCol = nearestInWords(bits(aboveWest, r) & westCols, bits(aboveHome, r) & homeCols & self, bits(aboveEast, r) & eastCols, at);
+				// an item as close as the best one is still earlier in row order
+				if (distCol != NONE && distRow + Math.abs(distCol) <= bestDist) {
+					bestDist = distRow + Math.abs(distCol);
+					bestRow = -distRow;
+					bestCol = distCol;
+				}
+			}
+
+			visionRow = row + distRow;
+			if (distRow > 0 && visionRow <= maxVisRow) {
+				if (visionRow >>> CHUNK_SHIFT == aboveBand && belowBand != aboveBand) {
+					belowBand = aboveBand; // usually the looker's own band, already looked up
+					belowWest = aboveWest;
+					belowHome = aboveHome;
+					belowEast = aboveEast;
+				}
+				else if (visionRow >>> CHUNK_SHIFT != belowBand) {
+					belowBand = visionRow >>> CHUNK_SHIFT;
+					belowWest = westCols == 0 ? null : chunks.get(ChunkTable.key(belowBand, home - 1));
+					belowHome = chunks.get(ChunkTable.key(belowBand, home));
+					belowEast = eastCols == 0 ? null : chunks.get(ChunkTable.key(belowBand, home + 1));
+				}
+				int r = visionRow & CHUNK_MASK;
+				int distCol = nearestInWords(bits(belowWest, r) & westCols, bits(belowHome, r) & homeCols, bits(belowEast, r) & eastCols, at);
+				if (distCol != NONE && distRow + Math.abs(distCol) < bestDist) {
+					bestDist = distRow + Math.abs(distCol);
+					bestRow = distRow;
+					bestCol = distCol;
+				}
+			}
+		}
+
+		return bestDist == Integer.MAX_VALUE ? 0 : directionTo(bestRow, bestCol);
+	}
+
+	// Wider windows skip rows with nothing in them with the chunks' used bits,
+	// and look the chunks of the other rows up one by one
+	private int nearestWide(int row, int col, int sight) {
+		int minVisRow = Math.max(0, row - sight);
+		int maxVisRow = Math.min(row + sight, rows - 1);
+		int minVisCol = Math.max(0, col - sight);
+		int maxVisCol = Math.min(col + sight, cols - 1);
+
+		int bestDist = Integer.MAX_VALUE; // nothing seen yet
+		int bestRow = 0;
+		int bestCol = 0;
+
+		int aboveBand = -1;
+		long aboveUsed = 0;
+		int belowBand = -1;
+		long belowUsed = 0;
+
+		for (int distRow = 0; distRow <= sight && distRow <= bestDist; distRow ++) {
+			int visionRow = row - distRow;
+			if (visionRow >= minVisRow) {
+				if (visionRow >>> CHUNK_SHIFT != aboveBand) {
+					aboveBand = visionRow >>> CHUNK_SHIFT;
+					aboveUsed = usedRows(aboveBand, minVisCol, maxVisCol);
+				}
+				if ((aboveUsed & (1L << (visionRow & CHUNK_MASK))) != 0) {
+					int distCol = nearestInRow(visionRow, col, minVisCol, maxVisCol, distRow == 0, bestDist - distRow);
+					if (distCol != NONE && distRow + Math.abs(distCol) <= bestDist) {
+						bestDist = distRow + Math.abs(distCol);
+						bestRow = -distRow;
+						bestCol = distCol;
+					}
+				}
+			}
+
+			visionRow = row + distRow;
+			if (distRow > 0 && visionRow <= maxVisRow) {
+				if (visionRow >>> CHUNK_SHIFT != belowBand) {
+					belowBand = visionRow >>> CHUNK_SHIFT;
+					belowUsed = usedRows(belowBand, minVisCol, maxVisCol);
+				}
+				if ((belowUsed & (1L << (visionRow & CHUNK_MASK))) != 0) {
+					int distCol = nearestInRow(visionRow, col, minVisCol, maxVisCol, false, bestDist - distRow);
+					if (distCol != NONE && distRow + Math.abs(distCol) < bestDist) {
+						bestDist = distRow + Math.abs(distCol);
+						bestRow = distRow;
+						bestCol = distCol;
+					}
+				}
+			}
+		}
+
+		return bestDist == Integer.MAX_VALUE ? 0 : directionTo(bestRow, bestCol);
+	}
+
+	private static long used(Chunk chunk) {
+		return chunk == null ? 0 : chunk.used;
+	}
+
+	private static long bits(Chunk chunk, int r) {
+		return chunk == null ? 0 : chunk.bits[r];
+	}
+
+	// Column offset of the nearest item in a row given as three chunk words
+	// (west of, at and east of the looker's chunk), the left one on a tie, or NONE
+	private static int nearestInWords(long west, long home, long east, int at) {
+		long homeLeft = home & (-1L >>> (CHUNK_MASK - at));
+		long homeRight = home & (-1L << at);
+		int left = homeLeft != 0 ? Long.numberOfLeadingZeros(homeLeft) - (CHUNK_MASK - at)
+				: west != 0 ? at + 1 + Long.numberOfLeadingZeros(west) : Integer.MAX_VALUE;
+		int right = homeRight != 0 ? Long.numberOfTrailingZeros(homeRight) - at
+				: east != 0 ? CHUNK - at + Long.numberOfTrailingZeros(east) : Integer.MAX_VALUE;
+		if (right < left) {
+			return right;
+		}
+		return left != Integer.MAX_VALUE ? -left : NONE;
+	}
+
+	// Rows of a chunk row (band) with anything in them between two columns, or
+	// in the chunk outside them: a row that is set only may have an item in range
+	private long usedRows(int band, int minCol, int maxCol) {
+		long used = 0;
+		for (int chunkCol = minCol >>> CHUNK_SHIFT; chunkCol <= maxCol >>> CHUNK_SHIFT; chunkCol++) {
+			used |= used(chunks.get(ChunkTable.key(band, chunkCol)));
+		}
+		return used;
+	}
+
+	// Column offset of the nearest item in one row between minCol and maxCol,
+	// the left one on a tie, or NONE if there is none no further than limit
+	private int nearestInRow(int row, int col, int minCol, int maxCol, boolean skipSelf, int limit) {
+		int chunkRow = row >>> CHUNK_SHIFT;
+		int r = row & CHUNK_MASK;
+		int left = Integer.MAX_VALUE;
+		int right = Integer.MAX_VALUE;
+
+		// At or left of col, nearest chunk first
+		for (int chunkCol = col >>> CHUNK_SHIFT; chunkCol >= minCol >>> CHUNK_SHIFT; chunkCol--) {
+			int edge = chunkCol << CHUNK_SHIFT;
+			if (col - (edge + CHUNK_MASK) > limit) {
+				break;
+			}
+			Chunk chunk = chunks.get(ChunkTable.key(chunkRow, chunkCol));
+			if (chunk == null) {
+				continue;
+			}
+			int hi = Math.min(col, edge + CHUNK_MASK) - edge;
+			long bits = chunk.bits[r] & (-1L << (Math.max(minCol, edge) - edge)) & (-1L >>> (CHUNK_MASK - hi));
+			if (skipSelf && hi == col - edge) {
+				bits &= ~(1L << hi); // Don't check a square that the looker is on.
+			}
+			if (bits != 0) {
+				left = col - (edge + 63 - Long.numberOfLeadingZeros(bits));
+				break;
+			}
+		}
+
+		// At or right of col, only if it can be strictly nearer
+		limit = Math.min(limit, left - 1);
+		for (int chunkCol = col >>> CHUNK_SHIFT; chunkCol <= maxCol >>> CHUNK_SHIFT; chunkCol++) {
+			int edge = chunkCol << CHUNK_SHIFT;
+			if (edge - col > limit) {
+				break;
+			}
+			Chunk chunk = chunks.get(ChunkTable.key(chunkRow, chunkCol));
+			if (chunk == null) {
+				continue;
+			}
+			int lo = Math.max(col, edge) - edge;
+			long bits = chunk.bits[r] & (-1L << lo) & (-1L >>> (CHUNK_MASK - (Math.min(maxCol, edge + CHUNK_MASK) - edge)));
+			if (skipSelf && lo == col - edge) {
+				bits &= ~(1L << lo);
+			}
+			if (bits != 0) {
+				right = edge + Long.numberOfTrailingZeros(bits) - col;
+				break;
+			}
+		}
+
+		if (right < left && right <= limit) {
+			return right;
+		}
+		return left != Integer.MAX_VALUE ? -left : NONE;
+	}
+
+	//==========================================================================
+	// Distance queries
+	//==========================================================================
+
+	/**
+	 * distanceWithin --- Chebyshev distance (largest of the row and column
+	 * offsets) from a cell to the nearest occupied cell, looking no further
+	 * than reach. Chunks that do not exist are skipped whole, so on a sparse
+	 * board a large square usually costs a few table lookups; with the
+	 * bitboard each chunk row is a few word operations. Without it every
+	 * cell of the square is read, so World only fast-forwards with bitboards.
+	 * @param row,col = the cell doing the looking
+	 * @param reach = largest distance of interest
+	 * @param self = true if the looker itself is counted in this layer, so its
+	 * own cell only counts when something else is there too
+	 * @return the distance, or reach + 1 if nothing is that close
+	 */
+	public int distanceWithin(int row, int col, int reach, boolean self) {
+		int minRow = Math.max(row - reach, 0);
+		int maxRow = Math.min(row + reach, rows - 1);
+		int minCol = Math.max(col - reach, 0);
+		int maxCol = Math.min(col + reach, cols - 1);
+		int best = reach + 1;
+
+		for (int chunkRow = minRow >>> CHUNK_SHIFT; chunkRow <= maxRow >>> CHUNK_SHIFT; chunkRow++) {
+			for (int chunkCol = minCol >>> CHUNK_SHIFT; chunkCol <= maxCol >>> CHUNK_SHIFT; chunkCol++) {
+				Chunk chunk = chunks.get(ChunkTable.key(chunkRow, chunkCol));
+				if (chunk == null) {
+					continue;
+				}
+				int top = chunkRow << CHUNK_SHIFT;
+				int left = chunkCol << CHUNK_SHIFT;
+				int c0 = Math.max(minCol, left) - left;
+				int c1 = Math.min(maxCol, left + CHUNK_MASK) - left;
+				long columns = (-1L << c0) & (-1L >>> (CHUNK_MASK - c1));
+				int at = col - left; // looker's column within the chunk, may lie outside it
+
+				for (int r = Math.max(minRow, top) - top; r <= Math.min(maxRow, top + CHUNK_MASK) - top; r++) {
+					int distRow = Math.abs(top + r - row);
+					if (distRow >= best || (bitboard && (chunk.used & (1L << r)) == 0)) {
+						continue;
+					}
+					long occupied;
+					if (bitboard) {
+						occupied = chunk.bits[r] & columns;
+					}
+					else {
+						occupied = 0;
+						for (int c = c0; c <= c1; c++) {
+							if (chunk.counts[(r << CHUNK_SHIFT) | c] > 0) {
+								occupied |= 1L << c;
+							}
+						}
+					}
+					if (self && distRow == 0 && at >= 0 && at <= CHUNK_MASK
+							&& chunk.counts[(r << CHUNK_SHIFT) | at] <= 1) {
+						occupied &= ~(1L << at); // only the looker is there
+					}
+					if (occupied == 0) {
+						continue;
+					}
+
+					// Nearest occupied column on either side of the looker's column
+					int distCol;
+					if (at < 0) {
+						distCol = Long.numberOfTrailingZeros(occupied) - at;
+					}
+					else if (at > CHUNK_MASK) {
+						distCol = at - (63 - Long.numberOfLeadingZeros(occupied));
+					}
+					else {
+						long leftBits = occupied & (-1L >>> (CHUNK_MASK - at));
+						long rightBits = occupied & (-1L << at);
+						distCol = Integer.MAX_VALUE;
+						if (leftBits != 0) {
+							distCol = at - (63 - Long.numberOfLeadingZeros(leftBits));
+						}
+						if (rightBits != 0) {
+							distCol = Math.min(distCol, Long.numberOfTrailingZeros(rightBits) - at);
+						}
+					}
+					best = Math.min(best, Math.max(distRow, distCol));
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * directionTo --- Turns the offset of a sighted item into the move that heads
+	 * towards it (1 up, 2 down, 3 right, 4 left), giving priority to the larger
+	 * of the two distances.
+	 * @param distRow,distCol = offset of the item from the looker
+	 * @return direction towards the item
+	 */
+	public static int directionTo(int distRow, int distCol) {
+		// Row distance priority
+		if (Math.abs(distRow) >= Math.abs(distCol)) {
+			return distRow < 0 ? 1 : 2;
+		}
+		// Column distance priority
+		return distCol > 0 ? 3 : 4;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+}
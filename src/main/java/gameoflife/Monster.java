@@ -4,8 +4,7 @@
 // Class: Monster.java
 //==========================================================================
 
-import java.util.ArrayList;
-import java.util.Random;
+package gameoflife;
 
 
 public class Monster {
@@ -14,15 +13,9 @@ public class Monster {
 	// Variables
 	//==========================================================================
 
-	public static int ROWS = BoardInfo.ROWS;
-	public static int COLS = BoardInfo.COLS;
 	private int row; //monster row position
 	private int col; //monster column position
 	private int trackingNumber; // monster tracking number given at creation (testing purposes)
-	private static int sight = 2; // monster vision range
-	private static ArrayList<Monster> monsterList = new ArrayList<Monster>(); // monster objects
-	private static ArrayList<Integer> monsterActionList = new ArrayList<Integer>(); // monster actions 
-	private static Random random = new Random();
 
 	//==========================================================================
 	// Monster Constructor
@@ -47,19 +40,20 @@ public class Monster {
 	/**
 	 * attemptMove --- Monster attempts to move, based on its position. Makes sure
 	 * the monster stays within the bounds of the board
+	 * @param w = the World the monster lives in
 	 * @param m = the Monster that is attempting the move
 	 * @params targetR, targetC = the row, col that the monster is attempting to 
 	 * move towards
 	 * @return: none
 	 */ 
-	public static void attemptMove(Monster m, int targetRow, int targetCol) {
+	public static void attemptMove(World w, Monster m, int targetRow, int targetCol) {
 		int currentX = m.getRow();
 		int currentY = m.getCol();
 
 		// In bounds
-		if (targetRow >= 0 && targetRow < ROWS && targetCol >= 0 && targetCol < COLS) {
-			BoardInfo.getMonsterLocations()[currentX][currentY] -= 1; 
-			BoardInfo.getMonsterLocations()[targetRow][targetCol] += 1; 
+		if (targetRow >= 0 && targetRow < w.getRows() && targetCol >= 0 && targetCol < w.getCols()) {
+			w.getMonsterLocations().increment(targetRow, targetCol); // arrive before leaving: the chunk never empties in between
+			w.getMonsterLocations().decrement(currentX, currentY);
 			m.setRow(targetRow);
 			m.setCol(targetCol);
 		}
@@ -72,20 +66,24 @@ public class Monster {
 	/**
 	 * monsterMovement --- decide whether the monster will eat a creature, move 
 	 * towards a creature, or move randomly throughout the board
+	 * @param w = the World the monster lives in
 	 * @param m = monster object that will act
 	 * @return : none
 	 */ 
-	public static void monsterMovement(Monster m) {
+	public static void monsterMovement(World w, Monster m) {
 
 		// By default, eat a creature if it's present
-		if (creaturePresent(m)) {
-			BoardInfo.getCreatureLocations()[m.getRow()][m.getCol()] --;
-
-			for (Creature c : Creature.getCreatureList()) {
-				if (c.getRow() == m.getRow() && c.getCol() == m.getCol()) {
-					BoardInfo.getCreatureLocations()[c.getRow()][c.getCol()] --; //creature died, update board information
-					Creature.getGraveyard().add(c); // creature died, add it to graveyard
-				}
+		if (creaturePresent(w, m)) {
+
+			// Only the creatures in this cell's bucket of the index need to be visited
+			CellIndex index = w.getCreatureIndex();
+			int c = index.first(m.getRow(), m.getCol());
+			while (c != CellIndex.NONE) {
+				int next = index.next(c);
+				w.getCreatureLocations().decrement(m.getRow(), m.getCol()); //creature died, update board information
+				index.remove(c, m.getRow(), m.getCol()); // eaten creatures can't be eaten twice
+				w.getCreatures().kill(c, DeathCause.MONSTER); // flagged dead, removed at the end of the step
+				c = next;
 			}
 		}
 
@@ -94,25 +92,26 @@ public class Monster {
 			int row = m.getRow();
 			int col = m.getCol();
 
-			int direction = random.nextInt(4) + 1;
+			int direction = w.monsterDraw(m.getTrackingNum(), 4) + 1;
 
 			// Move towards Creature
-			if (monsterVision(m, BoardInfo.getCreatureLocations()) != 0) {
-				direction = monsterVision(m, BoardInfo.getCreatureLocations());
+			int creatureDirection = monsterVision(w, m, w.getCreatureLocations());
+			if (creatureDirection != 0) {
+				direction = creatureDirection;
 			}
 
 			// Move randomly
 			if (direction == 1) 
-				attemptMove(m, row-1, col); // Move Up
+				attemptMove(w, m, row-1, col); // Move Up
 
 			else if (direction == 2) 
-				attemptMove(m, row+1, col); // Move Down
+				attemptMove(w, m, row+1, col); // Move Down
 
 			else if (direction == 3) 
-				attemptMove(m, row, col+1); // Move Right
+				attemptMove(w, m, row, col+1); // Move Right
 
 			else if (direction == 4) 
-				attemptMove(m, row, col-1);	// Move Left
+				attemptMove(w, m, row, col-1);	// Move Left
 		}
 	}
 
@@ -122,17 +121,12 @@ public class Monster {
 
 	/**
 	 * creaturePresent --- decide whether creature and monster occupy the same space
+	 * @param w = the World the monster lives in
 	 * @param m = specific monster object to be used
 	 * @return boolean (True if present, false if not)
 	 */ 
-	public static boolean creaturePresent(Monster m) {
-		for (Creature c : Creature.getCreatureList()) {
-			if (m.getRow() == c.getRow() && m.getCol() == c.getCol()) {
-
-				return true;
-			}
-		}
-		return false;
+	public static boolean creaturePresent(World w, Monster m) {
+		return w.getCreatureIndex().first(m.getRow(), m.getCol()) != CellIndex.NONE;
 	}
 
 	//==========================================================================
@@ -143,17 +137,25 @@ public class Monster {
 	 * monsterVision --- Simulate the vision range of a monster to an 8-square space
 	 * around the monster, then use manhattan distance formulat to decide which 
 	 * creature (if any) is closest to the monster in the game board.
+	 * @param w = the World the monster lives in
 	 * @param m = monster object whose vision we are simualating
-	 * @param locations = 2-D array of item locations that we are searching through (creatures)
+	 * @param locations = layer of item locations that we are searching through (creatures)
 	 * @return int that represents the direction to go to get towards the nearest item
 	 */ 
-	public static int monsterVision(Monster m, int[][] locations) {
+	public static int monsterVision(World w, Monster m, Layer locations) {
+
+		int sight = w.getParameters().getMonsterSight(); // vision range on board
+
+		// Bitboards answer with a few word operations per row that has anything in it
+		if (locations.hasBitboard()) {
+			return locations.nearestDirection(m.getRow(), m.getCol(), sight);
+		}
 
 		// Keep Vision inside Game board
 		int minVisRow = Math.max(0, m.getRow() - sight);
-		int maxVisRow = Math.min(m.getRow() + sight, ROWS - 1);
+		int maxVisRow = Math.min(m.getRow() + sight, w.getRows() - 1);
 		int minVisCol = Math.max(0, m.getCol() - sight);
-		int maxVisCol = Math.min(m.getCol() + sight, COLS - 1);
+		int maxVisCol = Math.min(m.getCol() + sight, w.getCols() - 1);
 
 		boolean first = true; //ensure the first found creature is recorded
 		int manhattanDistance = 0;
@@ -171,7 +173,7 @@ public class Monster {
 				if (!(m.getRow() == visionRow && m.getCol() == visionCol)) {
 
 					// Object has been sighted.
-					if (locations[visionRow][visionCol] > 0) {
+					if (locations.get(visionRow, visionCol) > 0) {
 
 						// First sight, default values
 						if(first) {
@@ -223,10 +225,6 @@ public class Monster {
 	// Monster Getters/Setters
 	//==========================================================================
 
-	public static ArrayList<Monster> getMonsterList() {
-		return monsterList;
-	}
-
 	public int getRow() {
 		return row;
 	}
@@ -0,0 +1,452 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: ParameterSweep.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public class ParameterSweep {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	// Parameters a sweep can vary, by the names used in spec files
+	public static final String[] PARAMETERS = {"rows", "cols", "generations", "time", "lifeForce",
+			"strawberries", "mushrooms", "creatures", "monsters", "monsterStep", "creatureSight", "monsterSight"};
+
+	// The BoardInfo option that sets each parameter, in the same order
+	public static final String[] FLAGS = {"--rows", "--cols", "--generations", "--time", "--life-force",
+			"--strawberries", "--mushrooms", "--creatures", "--monsters", "--monster-step", "--sight", "--monster-sight"};
+
+	private SimulationParameters base = new SimulationParameters(); // values of the parameters not swept
+	private int[][] values = new int[PARAMETERS.length][]; // candidate values of each swept parameter, null if not swept
+	private boolean random; // random search instead of the full grid
+	private int samples = 100; // parameter sets drawn by a random search
+	private int replicates = 1; // runs of every parameter set, each with its own seed
+	private long seed = 1; // master seed of the sweep
+
+	private BufferedWriter out; // results file, shared by every job
+	private volatile boolean stopped; // set when a job fails, so the rest do not start
+
+	//==========================================================================
+	// ParameterSweep Constructor
+	//==========================================================================
+
+	/**
+	 * ParameterSweep --- Runs many headless simulations to explore parameters.
+	 * The spec file has one "name = values" line per parameter, where values is
+	 * a comma separated list or an inclusive range "from:to:step", e.g.
+	 *
+	 *   creatureSight = 1, 2, 3
+	 *   lifeForce = 40:80:10
+	 *   replicates = 4
+	 *   seed = 42
+	 *   search = random      (optional, default grid)
+	 *   samples = 200        (parameter sets drawn by a random search)
+	 *
+	 * A grid sweep runs every combination; a random search draws each swept
+	 * parameter from its values independently. Every parameter set is run
+	 * once per replicate with its own seed, derived from the master seed.
+	 * Parameters that are not swept keep their defaults (the same as
+	 * BoardInfo's), and the last column of every row is the BoardInfo
+	 * options that replay it: "java gameoflife.BoardInfo --headless" followed
+	 * by --seed and one option per swept parameter (see FLAGS).
+	 * @param spec = spec file
+	 * @return: none
+	 */
+	public ParameterSweep(Path spec) throws IOException {
+		int number = 0;
+		for (String line : Files.readAllLines(spec, StandardCharsets.UTF_8)) {
+			number ++;
+			int comment = line.indexOf('#');
+			if (comment >= 0) {
+				line = line.substring(0, comment);
+			}
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			int equals = line.indexOf('=');
+			if (equals < 0) {
+				throw new IllegalArgumentException(spec + ":" + number + ": expected name = values");
+			}
+			String name = line.substring(0, equals).trim();
+			String value = line.substring(equals + 1).trim();
+
+			if (name.equals("replicates")) {
+				replicates = Math.max(Integer.parseInt(value), 1);
+			}
+			else if (name.equals("seed")) {
+				seed = Long.parseLong(value);
+			}
+			else if (name.equals("samples")) {
+				samples = Math.max(Integer.parseInt(value), 1);
+			}
+			else if (name.equals("search")) {
+				random = value.equals("random");
+			}
+			else {
+				int p = indexOf(name);
+				if (p < 0) {
+					throw new IllegalArgumentException(spec + ":" + number + ": unknown parameter " + name);
+				}
+				values[p] = parseValues(value);
+			}
+		}
+	}
+
+	private static int indexOf(String name) {
+		for (int p = 0; p < PARAMETERS.length; p++) {
+			if (PARAMETERS[p].equals(name)) {
+				return p;
+			}
+		}
+		return -1;
+	}
+
+	private static int[] parseValues(String text) {
+		if (text.indexOf(':') >= 0) {
+			String[] range = text.split(":");
+			int from = Integer.parseInt(range[0].trim());
+			int to = Integer.parseInt(range[1].trim());
+			int step = range.length > 2 ? Integer.parseInt(range[2].trim()) : 1;
+			if (step <= 0 || to < from) {
+				throw new IllegalArgumentException("bad range " + text);
+			}
+			int[] list = new int[(to - from) / step + 1];
+			for (int k = 0; k < list.length; k++) {
+				list[k] = from + k * step;
+			}
+			return list;
+		}
+		String[] items = text.split(",");
+		int[] list = new int[items.length];
+		for (int k = 0; k < items.length; k++) {
+			list[k] = Integer.parseInt(items[k].trim());
+		}
+		return list;
+	}
+
+	//==========================================================================
+	// Parameter sets
+	//==========================================================================
+
+	/**
+	 * getSets --- Number of parameter sets in the sweep.
+	 * @param : none
+	 * @return the size of the grid, or the number of random samples
+	 */
+	public int getSets() {
+		if (random) {
+			return samples;
+		}
+		long sets = 1;
+		for (int[] v : values) {
+			if (v != null) {
+				sets *= v.length;
+			}
+		}
+		if (sets > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("grid of " + sets + " parameter sets is too large");
+		}
+		return (int) sets;
+	}
+
+	/**
+	 * choose --- The value of every swept parameter in one parameter set. Grid
+	 * sets count through the combinations with the last parameter fastest;
+	 * random sets are drawn from their own stream, so set k is the same every
+	 * time the sweep is run.
+	 * @param set = which parameter set
+	 * @return one value per parameter (unswept entries are unused)
+	 */
+	public int[] choose(int set) {
+		int[] chosen = new int[PARAMETERS.length];
+		RandomStream draw = new RandomStream(RandomStream.derive(seed, set));
+		int rest = set;
+		for (int p = PARAMETERS.length - 1; p >= 0; p--) {
+			if (values[p] == null) {
+				continue;
+			}
+			int k;
+			if (random) {
+				k = draw.nextInt(values[p].length);
+			}
+			else {
+				k = rest % values[p].length;
+				rest /= values[p].length;
+			}
+			chosen[p] = values[p][k];
+		}
+		return chosen;
+	}
+
+	/**
+	 * parameters --- The full simulation parameters of one job.
+	 * @param chosen = values of the swept parameters (see choose)
+	 * @param jobSeed = seed of the replicate
+	 * @return a new SimulationParameters object
+	 */
+	public SimulationParameters parameters(int[] chosen, long jobSeed) {
+		SimulationParameters p = base.copy();
+		for (int k = 0; k < PARAMETERS.length; k++) {
+			if (values[k] != null) {
+				set(p, PARAMETERS[k], chosen[k]);
+			}
+		}
+		p.setSeed(jobSeed);
+		return p;
+	}
+
+	private static void set(SimulationParameters p, String name, int value) {
+		switch (name) {
+		case "rows": p.setRows(value); break;
+		case "cols": p.setCols(value); break;
+		case "generations": p.setGenerations(value); break;
+		case "time": p.setTime(value); break;
+		case "lifeForce": p.setLifeForce(value); break;
+		case "strawberries": p.setStrawberryPopulation(value); break;
+		case "mushrooms": p.setMushroomPopulation(value); break;
+		case "creatures": p.setCreaturePopulation(value); break;
+		case "monsters": p.setMonsterPopulation(value); break;
+		case "monsterStep": p.setMonsterStep(value); break;
+		case "creatureSight": p.setCreatureSight(value); break;
+		case "monsterSight": p.setMonsterSight(value); break;
+		default: throw new IllegalArgumentException("unknown parameter " + name);
+		}
+	}
+
+	public long jobSeed(int set, int replicate) {
+		return RandomStream.derive(RandomStream.derive(seed, set), replicate);
+	}
+
+	//==========================================================================
+	// Running the sweep
+	//==========================================================================
+
+	/**
+	 * run --- Runs every job that is not in the results file yet, spread over
+	 * a work-stealing pool, and appends one summary row per job as soon as it
+	 * finishes. An interrupted sweep is resumed by running it again with the
+	 * same spec and results file: finished jobs are skipped and a row cut off
+	 * half way is discarded. A results file whose rows were run with other
+	 * values (the spec was edited in between) is refused. If a job fails, no
+	 * further job starts, the running ones finish and write their rows, and
+	 * the failure is rethrown.
+	 * @param results = CSV results file, created if missing
+	 * @param pool = threads to run the jobs on
+	 * @return number of jobs run
+	 */
+	public int run(Path results, ForkJoinPool pool) throws IOException {
+		int sets = getSets();
+		boolean[] done = readDone(results, sets);
+
+		out = Files.newBufferedWriter(results, StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		try {
+			if (Files.size(results) == 0) {
+				out.write(header());
+				out.newLine();
+				out.flush();
+			}
+
+			List<ForkJoinTask<?>> jobs = new ArrayList<ForkJoinTask<?>>();
+			for (int set = 0; set < sets; set++) {
+				for (int r = 0; r < replicates; r++) {
+					if (!done[set * replicates + r]) {
+						int s = set;
+						int replicate = r;
+						jobs.add(pool.submit(() -> runJob(s, replicate)));
+					}
+				}
+			}
+			// After a failure the jobs not started yet return at once (see
+			// runJob), but the ones running are still waited for: they write to out
+			Throwable failure = null;
+			for (ForkJoinTask<?> job : jobs) {
+				job.quietlyJoin();
+				if (failure == null && job.isCompletedAbnormally()) {
+					failure = job.getException();
+				}
+			}
+			if (failure != null) {
+				throw new IllegalStateException("a sweep job failed", failure);
+			}
+			return jobs.size();
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	private void runJob(int set, int replicate) {
+		if (stopped) {
+			return; // another job failed: the sweep is over
+		}
+		int[] chosen = choose(set);
+		long jobSeed = jobSeed(set, replicate);
+		SimulationEngine engine;
+		double fitness;
+		try {
+			engine = new SimulationEngine(new World(parameters(chosen, jobSeed)));
+			fitness = engine.run();
+		}
+		catch (RuntimeException | Error e) {
+			stopped = true; // before the pool hands out another job
+			throw e;
+		}
+
+		StringBuilder row = new StringBuilder();
+		row.append(set).append(',').append(replicate).append(',').append(jobSeed);
+		for (int p = 0; p < PARAMETERS.length; p++) {
+			if (values[p] != null) {
+				row.append(',').append(chosen[p]);
+			}
+		}
+		row.append(',').append(fitness);
+		row.append(',').append(engine.getWorld().getCreatures().size());
+		row.append(',').append(engine.getStepsPerSecond());
+		row.append(',').append(replay(chosen, jobSeed));
+		write(row.toString());
+	}
+
+	/**
+	 * replay --- The BoardInfo options that run one job again.
+	 * @param chosen = values of the swept parameters (see choose)
+	 * @param jobSeed = seed of the replicate
+	 * @return the options, separated by spaces
+	 */
+	public String replay(int[] chosen, long jobSeed) {
+		StringBuilder sb = new StringBuilder("--seed ").append(jobSeed);
+		for (int p = 0; p < PARAMETERS.length; p++) {
+			if (values[p] != null) {
+				sb.append(' ').append(FLAGS[p]).append(' ').append(chosen[p]);
+			}
+		}
+		return sb.toString();
+	}
+
+	private synchronized void write(String row) {
+		try {
+			out.write(row);
+			out.newLine();
+			out.flush(); // a finished job is on disk before the next one is reported
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("could not write results", e);
+		}
+	}
+
+	private String header() {
+		StringBuilder sb = new StringBuilder("set,replicate,seed");
+		for (int p = 0; p < PARAMETERS.length; p++) {
+			if (values[p] != null) {
+				sb.append(',').append(PARAMETERS[p]);
+			}
+		}
+		return sb.append(",fitness,final_population,steps_per_sec,replay").toString();
+	}
+
+	/**
+	 * readDone --- Finds the jobs an earlier run of the sweep already finished.
+	 * Anything after the last complete line (a row cut off when the earlier
+	 * run was killed) is cut from the file. Every row must hold the seed and
+	 * parameter values this sweep gives its job; otherwise the file belongs
+	 * to another sweep (or this spec was edited) and is not resumed.
+	 * @param results = CSV results file
+	 * @param sets = number of parameter sets
+	 * @return done[set * replicates + replicate]
+	 */
+	private boolean[] readDone(Path results, int sets) throws IOException {
+		boolean[] done = new boolean[sets * replicates];
+		if (!Files.exists(results) || Files.size(results) == 0) {
+			return done;
+		}
+
+		byte[] bytes = Files.readAllBytes(results);
+		int end = bytes.length;
+		while (end > 0 && bytes[end - 1] != '\n') {
+			end --;
+		}
+		if (end < bytes.length) {
+			try (FileChannel channel = FileChannel.open(results, StandardOpenOption.WRITE)) {
+				channel.truncate(end);
+			}
+		}
+
+		String[] lines = new String(bytes, 0, end, StandardCharsets.UTF_8).split("\r?\n");
+		if (!lines[0].equals(header())) {
+			throw new IOException(results + " holds results of a different sweep");
+		}
+		for (int k = 1; k < lines.length; k++) {
+			String[] fields = lines[k].split(",");
+			int set = Integer.parseInt(fields[0]);
+			int replicate = Integer.parseInt(fields[1]);
+			if (set >= sets || replicate >= replicates || !matches(fields, set, replicate)) {
+				throw new IOException(results + ":" + (k + 1) + ": row was run with other values than this sweep gives job "
+						+ set + "/" + replicate + "; use a new results file");
+			}
+			done[set * replicates + replicate] = true;
+		}
+		return done;
+	}
+
+	private boolean matches(String[] fields, int set, int replicate) {
+		if (!fields[2].equals(String.valueOf(jobSeed(set, replicate)))) {
+			return false;
+		}
+		int[] chosen = choose(set);
+		int column = 3;
+		for (int p = 0; p < PARAMETERS.length; p++) {
+			if (values[p] != null && !fields[column ++].equals(String.valueOf(chosen[p]))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//==========================================================================
+	// Start a sweep
+	//==========================================================================
+
+	/**
+	 * main --- Runs a sweep.
+	 * @param args : spec file, results file, and optionally "--threads n"
+	 * (default: one per processor)
+	 * @return: none
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.out.println("usage: ParameterSweep spec results.csv [--threads n]");
+			return;
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		for (int i = 2; i < args.length; i++) {
+			if (args[i].equals("--threads") && i + 1 < args.length) {
+				threads = Integer.parseInt(args[++i]);
+			}
+		}
+
+		ParameterSweep sweep = new ParameterSweep(Paths.get(args[0]));
+		System.out.println(sweep.getSets() + " parameter sets x " + sweep.replicates + " replicates on " + threads + " threads");
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		int ran = sweep.run(Paths.get(args[1]), pool);
+		pool.shutdown();
+		System.out.printf("%d jobs run in %.1f s, results in %s%n", ran, (System.nanoTime() - start) / 1e9, args[1]);
+	}
+}
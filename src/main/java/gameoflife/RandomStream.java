@@ -0,0 +1,129 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: RandomStream.java
+//==========================================================================
+
+package gameoflife;
+
+public class RandomStream {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final long GOLDEN = 0x9E3779B97F4A7C15L; // SplitMix64 increment
+
+	private long state; // the whole generator; save it and set it back to replay
+
+	//==========================================================================
+	// RandomStream Constructor
+	//==========================================================================
+
+	/**
+	 * RandomStream --- A small seedable generator (SplitMix64, the algorithm
+	 * behind java.util.SplittableRandom). Unlike SplittableRandom its state is
+	 * one long that can be read and restored, so a run can be checkpointed and
+	 * replayed exactly. Streams are not thread safe: each one belongs to a
+	 * single world and is used by a single thread at a time.
+	 * @param seed = starting state
+	 * @return: none
+	 */
+	public RandomStream(long seed) {
+		this.state = seed;
+	}
+
+	//==========================================================================
+	// Seeds
+	//==========================================================================
+
+	/**
+	 * mix --- The SplitMix64 finalizer, a strong 64 bit hash.
+	 * @param z = value to scramble
+	 * @return scrambled value
+	 */
+	public static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * derive --- Seed of an independent child stream, e.g. world w of a run or
+	 * the placement stream of a world. The same parent and index always give
+	 * the same child, whatever order children are created in.
+	 * @param seed = parent seed
+	 * @param index = which child
+	 * @return the child's seed
+	 */
+	public static long derive(long seed, long index) {
+		return mix(seed + (index + 1) * GOLDEN);
+	}
+
+	/**
+	 * hash --- Counter-based random value: a pure function of its inputs, so an
+	 * entity can draw its random number for a step on any thread, in any order,
+	 * and still get the same value as a single-threaded run.
+	 * @param seed = stream seed
+	 * @param a,b,c = counters (e.g. generation, step, entity)
+	 * @return 64 random bits
+	 */
+	public static long hash(long seed, long a, long b, long c) {
+		return mix(mix(mix(seed + a * GOLDEN) + b * GOLDEN) + c * GOLDEN);
+	}
+
+	/**
+	 * bounded --- Turns 64 random bits into a number from 0 to bound-1.
+	 * @param bits = random bits
+	 * @param bound = number of possible results, positive
+	 * @return a number in [0, bound)
+	 */
+	public static int bounded(long bits, int bound) {
+		return (int) (((bits >>> 32) * bound) >>> 32);
+	}
+
+	//==========================================================================
+	// Draws
+	//==========================================================================
+
+	public long nextLong() {
+		state += GOLDEN;
+		return mix(state);
+	}
+
+	/**
+	 * nextInt --- A uniform number from 0 to bound-1 (rejection sampled so no
+	 * result is favoured, like java.util.Random.nextInt).
+	 * @param bound = number of possible results, positive
+	 * @return a number in [0, bound)
+	 */
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		int r = (int) (nextLong() >>> 33);
+		int m = bound - 1;
+		if ((bound & m) == 0) {
+			return r & m; // power of two
+		}
+		for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) {
+		}
+		return r;
+	}
+
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	//==========================================================================
+	// Getters/Setters
+	//==========================================================================
+
+	public long getState() {
+		return state;
+	}
+
+	public void setState(long state) {
+		this.state = state;
+	}
+}
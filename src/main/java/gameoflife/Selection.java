@@ -0,0 +1,228 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: Selection.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.Arrays;
+
+public class Selection {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	/**
+	 * Method --- how parents are drawn from the survivors.
+	 * TOURNAMENT: the fittest of a few survivors drawn at random.
+	 * RANK: chance proportional to rank by life force (the weakest has rank 1).
+	 * ROULETTE: chance proportional to life force.
+	 */
+	public enum Method {
+		TOURNAMENT, RANK, ROULETTE
+	}
+
+	private Method method;
+	private int tournamentSize; // survivors drawn per tournament
+
+	private int size; // number of survivors
+	private long[] genome; // survivor genomes, packed
+	private int[] fitness; // survivor life force
+
+	// Alias table (Vose) for RANK and ROULETTE: survivor i is kept with
+	// probability chance[i], otherwise it is replaced by alias[i]
+	private double[] chance;
+	private int[] alias;
+	private int[] small; // work lists for building the table
+	private int[] large;
+	private long[] order; // rank sort keys: fitness << 32 | survivor
+	private int[] rank; // rank of every survivor, 1 = weakest
+
+	private long prepareNanos; // time the last prepare took
+
+	//==========================================================================
+	// Selection Constructor
+	//==========================================================================
+
+	/**
+	 * Selection --- The parent pool of a generation. prepare copies the
+	 * survivors' genomes and life force once per generation (and builds the
+	 * alias table for rank or roulette selection, O(n log n) at most); after
+	 * that every parent is drawn in O(1) (O(tournament size) for tournaments),
+	 * however large the population. The arrays are kept between generations.
+	 * @param method = how parents are drawn
+	 * @param tournamentSize = survivors drawn per tournament, at least 1
+	 * @return: none
+	 */
+	public Selection(Method method, int tournamentSize) {
+		this.method = method;
+		this.tournamentSize = Math.max(tournamentSize, 1);
+		genome = new long[0];
+		fitness = new int[0];
+	}
+
+	//==========================================================================
+	// Building the pool
+	//==========================================================================
+
+	/**
+	 * prepare --- Takes the creatures of a finished generation as the parent pool.
+	 * @param survivors = the creatures still alive
+	 * @return: none
+	 */
+	public void prepare(CreatureStore survivors) {
+		long start = System.nanoTime();
+		size = survivors.size();
+		if (genome.length < size) {
+			genome = new long[size];
+			fitness = new int[size];
+		}
+		for (int i = 0; i < size; i++) {
+			genome[i] = survivors.getGenome(i);
+			fitness[i] = Math.max(survivors.getEnergy(i), 0);
+		}
+
+		if (method == Method.RANK) {
+			prepareRanks();
+		}
+		else if (method == Method.ROULETTE) {
+			prepareAlias(fitness);
+		}
+		prepareNanos = System.nanoTime() - start;
+	}
+
+	private void prepareRanks() {
+		if (order == null || order.length < size) {
+			order = new long[size];
+			rank = new int[size];
+		}
+		for (int i = 0; i < size; i++) {
+			order[i] = ((long) fitness[i] << 32) | i; // ties go by slot
+		}
+		Arrays.sort(order, 0, size);
+
+		for (int r = 0; r < size; r++) {
+			rank[(int) order[r]] = r + 1;
+		}
+		prepareAlias(rank);
+	}
+
+	private void prepareAlias(int[] weight) {
+		if (chance == null || chance.length < size) {
+			chance = new double[size];
+			alias = new int[size];
+			small = new int[size];
+			large = new int[size];
+		}
+
+		double total = 0;
+		for (int i = 0; i < size; i++) {
+			total += weight[i];
+		}
+
+		int smalls = 0;
+		int larges = 0;
+		for (int i = 0; i < size; i++) {
+			// scaled so the average survivor has 1; with no weight at all everyone is equal
+			chance[i] = total > 0 ? (double) weight[i] * size / total : 1.0; // in double: rank times size overflows an int
+			alias[i] = i;
+			if (chance[i] < 1.0) {
+				small[smalls++] = i;
+			}
+			else {
+				large[larges++] = i;
+			}
+		}
+
+		// Each short column is topped up from one tall column
+		while (smalls > 0 && larges > 0) {
+			int s = small[--smalls];
+			int l = large[larges - 1];
+			alias[s] = l;
+			chance[l] -= 1.0 - chance[s];
+			if (chance[l] < 1.0) {
+				larges --;
+				small[smalls++] = l;
+			}
+		}
+		// Whatever is left is full up to rounding
+		while (larges > 0) {
+			chance[large[--larges]] = 1.0;
+		}
+		while (smalls > 0) {
+			chance[small[--smalls]] = 1.0;
+		}
+	}
+
+	//==========================================================================
+	// Drawing parents
+	//==========================================================================
+
+	/**
+	 * pick --- Draws one parent.
+	 * @param random = the world's genetics stream
+	 * @return index of the parent in the pool, from 0 to size()-1
+	 */
+	public int pick(RandomStream random) {
+		if (method == Method.TOURNAMENT) {
+			int best = random.nextInt(size);
+			for (int k = 1; k < tournamentSize; k++) {
+				int next = random.nextInt(size);
+				if (fitness[best] < fitness[next]) {
+					best = next; // best parent has highest lifeForce value
+				}
+			}
+			return best;
+		}
+		int column = random.nextInt(size);
+		return random.nextDouble() < chance[column] ? column : alias[column];
+	}
+
+	/**
+	 * pickOther --- Draws a second parent, different from the first whenever
+	 * the pool has more than one survivor. After a few draws that all return
+	 * the first parent (one survivor dominating the pool), any other survivor
+	 * is taken at random, so it never loops for long.
+	 * @param random = the world's genetics stream
+	 * @param first = the parent already drawn
+	 * @return index of the second parent
+	 */
+	public int pickOther(RandomStream random, int first) {
+		if (size < 2) {
+			return first; // a lone survivor breeds with itself
+		}
+		for (int tries = 0; tries < 8; tries++) {
+			int other = pick(random);
+			if (other != first) {
+				return other;
+			}
+		}
+		return (first + 1 + random.nextInt(size - 1)) % size;
+	}
+
+	//==========================================================================
+	// Getters/Setters
+	//==========================================================================
+
+	public int size() {
+		return size;
+	}
+
+	public long getGenome(int parent) {
+		return genome[parent];
+	}
+
+	public int getFitness(int parent) {
+		return fitness[parent];
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public long getPrepareNanos() {
+		return prepareNanos;
+	}
+}
@@ -0,0 +1,368 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: SimulationEngine.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class SimulationEngine {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private World world; // the board, creatures and monsters this engine runs
+	private int generations; // Number of generations to run
+	private int time; // Time steps in one generation
+	private int monsterStep; // Monsters act once every monsterStep time steps
+
+	// Optional listeners (visuals, logging). The engine itself never touches java.awt.
+	private ArrayList<SimulationObserver> observers = new ArrayList<SimulationObserver>();
+
+	private long stepsTaken; // time steps completed across all generations
+	private int generationsTaken; // generations completed
+	private int lastTotalLifeForce; // total life force of the survivors of the last generation
+	private long elapsedNanos; // wall clock time spent running generations
+
+	private SimulationMetrics metrics; // phase timings and event counts, null = not measured
+
+	// Two-phase parallel step (null pool = the original sequential step)
+	private ForkJoinPool pool;
+	private int[] intents = new int[0]; // action chosen by each creature slot this step
+	private ArrayList<Planner> planners = new ArrayList<Planner>(); // one per part of the population
+	private PlanAll planAll = new PlanAll(); // runs every planner; reused every step
+
+	//==========================================================================
+	// Engine Constructor
+	//==========================================================================
+
+	/**
+	 * SimulationEngine --- Creates an engine that runs the generation/time loop
+	 * over one world, using the generation count and timings of its parameters.
+	 * @param world = the world to be simulated
+	 * @return: none
+	 */
+	public SimulationEngine(World world) {
+		this.world = world;
+		this.generations = world.getParameters().getGenerations();
+		this.time = world.getParameters().getTime();
+		this.monsterStep = world.getParameters().getMonsterStep();
+	}
+
+	/**
+	 * SimulationEngine --- Creates an engine whose creatures choose their actions
+	 * in parallel. Each step has two phases: every creature decides against the
+	 * board as it was at the start of the creature phase (nothing is written while
+	 * they decide), then the decisions are carried out one creature at a time in
+	 * slot order. A creature that wants a strawberry another creature already ate
+	 * this step fails to eat. The result depends only on the seed, never on the
+	 * number of threads, but differs from the sequential step, where each
+	 * creature sees the moves of the creatures before it.
+	 * @param world = the world to be simulated
+	 * @param pool = threads used to decide the creatures' actions
+	 * @return: none
+	 */
+	public SimulationEngine(World world, ForkJoinPool pool) {
+		this(world);
+		this.pool = pool;
+		for (int p = 0; p < pool.getParallelism(); p ++) {
+			planners.add(new Planner());
+		}
+	}
+
+	/**
+	 * addObserver --- registers an observer that is told about every generation
+	 * and time step (e.g. the GamePanel visuals).
+	 * @param o = observer to be notified
+	 * @return: none
+	 */
+	public void addObserver(SimulationObserver o) {
+		observers.add(o);
+	}
+
+	//==========================================================================
+	// Run the Simulation
+	//==========================================================================
+
+	/**
+	 * run --- Runs every remaining generation: builds the board, lets monsters
+	 * and creatures act for each time step, and records the fitness of each generation.
+	 * @param : none
+	 * @return: life force of the final generation averaged over the number of generations
+	 */
+	public double run() {
+		while (generationsTaken < generations) {
+			runGeneration();
+		}
+		return (double) lastTotalLifeForce / generations;
+	}
+
+	/**
+	 * runGeneration --- Runs exactly one generation. The first call places a
+	 * random first generation, later calls breed from the creatures still alive.
+	 * @param : none
+	 * @return: average life force of the generation (its fitness)
+	 */
+	public double runGeneration() {
+		long start = System.nanoTime();
+		int g = generationsTaken;
+		int totalLifeForce;
+
+		if (g == 0) {
+			world.initialBoardInfo();
+		}
+		else {
+			world.newGeneration();
+		}
+
+		if (metrics != null) {
+			long selection = g == 0 ? 0 : world.getSelection().getPrepareNanos(); // the first generation has no parents
+			if (g > 0) {
+				metrics.add(SimulationMetrics.Phase.SELECTION, selection);
+			}
+			metrics.add(SimulationMetrics.Phase.PLACEMENT, System.nanoTime() - start - selection);
+			metrics.generationStarted();
+		}
+
+		for (int o = 0; o < observers.size(); o ++) {
+			observers.get(o).generationStarted(g);
+		}
+
+		for (int t = 0; t < time; t ++) {
+			step(t);
+			stepsTaken ++;
+
+			long observed = metrics == null ? 0 : System.nanoTime();
+			for (int o = 0; o < observers.size(); o ++) {
+				observers.get(o).stepCompleted(g, t); // indexed: no iterator per step
+			}
+			if (metrics != null) {
+				metrics.record(SimulationMetrics.Phase.OBSERVERS, observed);
+			}
+		}
+
+		totalLifeForce = world.totalLifeForce();
+		double average = (double) totalLifeForce / world.getParameters().getCreaturePopulation();
+		lastTotalLifeForce = totalLifeForce;
+		generationsTaken ++;
+		elapsedNanos += System.nanoTime() - start;
+
+		for (int o = 0; o < observers.size(); o ++) {
+			observers.get(o).generationCompleted(g, average);
+		}
+		return average;
+	}
+
+	/**
+	 * step --- Lets the monsters (every monsterStep steps) and then every creature
+	 * act once, then removes everything that died during the step.
+	 * @param t = index of the time step within the generation
+	 * @return: none
+	 */
+	public void step(int t) {
+		world.setStep(t); // behavior draws are keyed by the step
+		long phase = metrics == null ? 0 : System.nanoTime();
+
+		// Monsters move at different pace than creatures
+		if (t % monsterStep == 0) {
+			ArrayList<Monster> monsters = world.getMonsterList();
+			for (int m = 0; m < monsters.size(); m ++) {
+				Monster.monsterMovement(world, monsters.get(m)); // Monsters move
+			}
+			if (metrics != null) {
+				phase = metrics.record(SimulationMetrics.Phase.MONSTERS, phase);
+			}
+		}
+
+		// Indexed loop over the store: no iterator, no Creature objects
+		CreatureStore creatures = world.getCreatures();
+		if (pool == null) {
+			for (int i = 0; i < creatures.size(); i ++) {
+				if (!creatures.isDead(i)) {
+					Creature.act(world, i); // Creatures move (eaten creatures are skipped)
+				}
+			}
+		}
+		else {
+			planActions(); // phase 1: decide in parallel, read only
+			for (int i = 0; i < creatures.size(); i ++) {
+				if (!creatures.isDead(i)) {
+					Creature.perform(world, i, intents[i]); // phase 2: commit in slot order
+				}
+			}
+		}
+
+		if (metrics != null) {
+			phase = metrics.record(SimulationMetrics.Phase.CREATURES, phase);
+		}
+
+		world.removeDead(); // One sweep removes everything that died this step
+
+		if (metrics != null) {
+			metrics.record(SimulationMetrics.Phase.REMOVE_DEAD, phase);
+			metrics.stepCompleted(world);
+		}
+	}
+
+	//==========================================================================
+	// Checkpoints
+	//==========================================================================
+
+	/**
+	 * save --- Writes the engine's progress counters (see Checkpoint.save).
+	 * @param out = checkpoint being written
+	 * @return: none
+	 */
+	public void save(Checkpoint.Output out) {
+		out.writeInt(generationsTaken);
+		out.writeLong(stepsTaken);
+		out.writeInt(lastTotalLifeForce);
+	}
+
+	/**
+	 * load --- Picks up the progress counters written by save, so the next
+	 * runGeneration breeds from the restored survivors.
+	 * @param in = checkpoint being read
+	 * @return: none
+	 */
+	public void load(Checkpoint.Input in) {
+		generationsTaken = in.readInt();
+		stepsTaken = in.readLong();
+		lastTotalLifeForce = in.readInt();
+	}
+
+	//==========================================================================
+	// Parallel action selection
+	//==========================================================================
+
+	/**
+	 * planActions --- Phase 1 of the parallel step: splits the creature slots
+	 * into one range per thread and lets every creature choose its action into
+	 * intents[slot]. Only reads the world, so the ranges can run at once.
+	 * @param : none
+	 * @return: none
+	 */
+	private void planActions() {
+		int size = world.getCreatures().size();
+		if (intents.length < size) {
+			intents = new int[world.getCreatures().getCapacity()];
+		}
+
+		int parts = planners.size();
+		for (int p = 0; p < parts; p ++) {
+			planners.get(p).from = (int) ((long) size * p / parts);
+			planners.get(p).to = (int) ((long) size * (p + 1) / parts);
+		}
+
+		// The same task objects every step: nothing is allocated to hand the work out
+		planAll.reinitialize();
+		try {
+			pool.invoke(planAll); // rethrows anything a planner threw
+		}
+		catch (RuntimeException | Error e) {
+			throw new IllegalStateException("planning actions failed", e);
+		}
+	}
+
+	/**
+	 * PlanAll --- forks every planner and waits for all of them.
+	 */
+	private class PlanAll extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		protected void compute() {
+			for (int p = 0; p < planners.size(); p ++) {
+				planners.get(p).reinitialize();
+			}
+			invokeAll(planners);
+		}
+	}
+
+	/**
+	 * Planner --- chooses the actions of one range of creature slots, with its
+	 * own sensor buffer so planners never share anything they write.
+	 */
+	private class Planner extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		int from; // first slot
+		int to; // one past the last slot
+		int[] readings = new int[Creature.SENSES];
+
+		protected void compute() {
+			CreatureStore creatures = world.getCreatures();
+			for (int i = from; i < to; i ++) {
+				if (!creatures.isDead(i)) {
+					intents[i] = (int) Creature.selectAction(world, i, readings);
+				}
+			}
+		}
+	}
+
+	//==========================================================================
+	// Throughput
+	//==========================================================================
+
+	/**
+	 * getStepsPerSecond --- time steps completed per second of wall clock time
+	 * @param : none
+	 * @return: steps per second, or 0 before the engine has run
+	 */
+	public double getStepsPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return stepsTaken / (elapsedNanos / 1e9);
+	}
+
+	/**
+	 * getGenerationsPerSecond --- generations completed per second of wall clock time
+	 * @param : none
+	 * @return: generations per second, or 0 before the engine has run
+	 */
+	public double getGenerationsPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return generationsTaken / (elapsedNanos / 1e9);
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public SimulationMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * setMetrics --- Starts (or with null, stops) timing the phases of the
+	 * loop and counting events into the given metrics.
+	 * @param metrics = where to record, null for nothing
+	 * @return: none
+	 */
+	public void setMetrics(SimulationMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public long getStepsTaken() {
+		return stepsTaken;
+	}
+
+	public int getGenerations() {
+		return generations;
+	}
+
+	public void setGenerations(int generations) {
+		this.generations = generations;
+	}
+
+	public int getGenerationsTaken() {
+		return generationsTaken;
+	}
+}
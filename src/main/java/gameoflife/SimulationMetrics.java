@@ -0,0 +1,383 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: SimulationMetrics.java
+//==========================================================================
+
+package gameoflife;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+public class SimulationMetrics implements DynamicMBean {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	/**
+	 * Phase --- the parts of the simulation loop that are timed.
+	 * MONSTERS: monster movement (only on steps where monsters move).
+	 * CREATURES: every creature acting (deciding and moving, both phases of
+	 * the parallel step). REMOVE_DEAD: sweeping out the creatures that died.
+	 * OBSERVERS: the step observers, which is where the board is redrawn.
+	 * SELECTION: building the parent pool at the start of a generation.
+	 * PLACEMENT: placing the new generation, breeding every creature.
+	 */
+	public enum Phase {
+		MONSTERS, CREATURES, REMOVE_DEAD, OBSERVERS, SELECTION, PLACEMENT
+	}
+
+	public static final int BUCKETS = 40; // histogram bucket b counts durations below 2^b ns (the last one, anything longer)
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final DeathCause[] CAUSES = DeathCause.values();
+
+	// Event counters, cumulative over the whole run
+	private static final int STEPS = 0;
+	private static final int MOVES = 1;
+	private static final int STRAWBERRIES_EATEN = 2;
+	private static final int DEATHS = 3; // one counter per DeathCause, in ordinal order
+	private static final int EVENTS = DEATHS + CAUSES.length;
+
+	// Only the simulation thread writes, so updates are a plain read and an
+	// ordered write (lazySet), with no locked instruction; JMX threads read.
+	// A reset from a JMX thread is only requested, and the simulation thread
+	// zeroes the counters at the end of its step, so no increment is lost
+	// into or survives a reset half way
+	private AtomicLongArray calls = new AtomicLongArray(PHASES.length);
+	private AtomicLongArray nanos = new AtomicLongArray(PHASES.length);
+	private AtomicLongArray maxNanos = new AtomicLongArray(PHASES.length);
+	private AtomicLongArray histogram = new AtomicLongArray(PHASES.length * BUCKETS); // phase * BUCKETS + bucket
+	private AtomicLongArray events = new AtomicLongArray(EVENTS);
+	private volatile boolean resetRequested;
+
+	// What the world's per-generation counters read at the last step (simulation thread only)
+	private int seenMoves;
+	private int seenEaten;
+	private int[] seenDeaths = new int[CAUSES.length];
+
+	private MBeanInfo info;
+
+	//==========================================================================
+	// SimulationMetrics Constructor
+	//==========================================================================
+
+	/**
+	 * SimulationMetrics --- Timings and event counts of one engine, published
+	 * as a platform MBean so JMX tools (jconsole, exporters) can read a live
+	 * run. For every phase there is a call count, total, mean and longest
+	 * time, a log2 latency histogram and its median and 99th percentile; the
+	 * events are steps, creature moves, strawberries eaten and deaths by cause.
+	 * An engine without metrics (the default) skips all of it, so it costs
+	 * nothing when not asked for; with metrics each phase costs two clock reads.
+	 * @param : none
+	 * @return: none
+	 */
+	public SimulationMetrics() {
+		ArrayList<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+		attributes.add(attribute("Steps", "long", "time steps completed"));
+		attributes.add(attribute("Generations", "long", "generations placed"));
+		attributes.add(attribute("Moves", "long", "creature moves"));
+		attributes.add(attribute("StrawberriesEaten", "long", "strawberries eaten"));
+		for (DeathCause cause : CAUSES) {
+			attributes.add(attribute("Deaths" + camel(cause.name()), "long", "creature deaths by " + cause.name().toLowerCase()));
+		}
+		for (Phase phase : PHASES) {
+			String name = camel(phase.name());
+			attributes.add(attribute(name + "Count", "long", "times the phase ran"));
+			attributes.add(attribute(name + "TotalNanos", "long", "time spent in the phase"));
+			attributes.add(attribute(name + "MeanNanos", "double", "mean time per run of the phase"));
+			attributes.add(attribute(name + "MaxNanos", "long", "longest run of the phase"));
+			attributes.add(attribute(name + "P50Nanos", "long", "median run of the phase, to a power of two"));
+			attributes.add(attribute(name + "P99Nanos", "long", "99th percentile run of the phase, to a power of two"));
+			attributes.add(attribute(name + "Histogram", long[].class.getName(), "runs by duration: bucket b counts runs below 2^b ns"));
+		}
+		MBeanOperationInfo reset = new MBeanOperationInfo("reset", "zeroes every counter at the end of the running step", new MBeanParameterInfo[0],
+				"void", MBeanOperationInfo.ACTION);
+		info = new MBeanInfo(getClass().getName(), "Game of Life simulation timings and events",
+				attributes.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[] {reset}, null);
+	}
+
+	private static MBeanAttributeInfo attribute(String name, String type, String description) {
+		return new MBeanAttributeInfo(name, type, description, true, false, false);
+	}
+
+	// REMOVE_DEAD -> RemoveDead
+	private static String camel(String name) {
+		StringBuilder sb = new StringBuilder();
+		for (String word : name.split("_")) {
+			sb.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * register --- Publishes the metrics on the platform MBean server as
+	 * gameoflife:type=Simulation,world=n.
+	 * @param world = number of the world or island the engine runs
+	 * @return the name it was registered under
+	 */
+	public ObjectName register(int world) throws JMException {
+		ObjectName name = new ObjectName("gameoflife:type=Simulation,world=" + world);
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+		return name;
+	}
+
+	//==========================================================================
+	// Recording (simulation thread)
+	//==========================================================================
+
+	/**
+	 * record --- Adds one run of a phase that started at a given time and
+	 * ends now. Returns now, so consecutive phases chain:
+	 * t = metrics.record(Phase.MONSTERS, t); ... t = metrics.record(Phase.CREATURES, t);
+	 * @param phase = the phase that ran
+	 * @param start = System.nanoTime() when it started
+	 * @return System.nanoTime() now
+	 */
+	public long record(Phase phase, long start) {
+		long now = System.nanoTime();
+		add(phase, now - start);
+		return now;
+	}
+
+	/**
+	 * add --- Adds one run of a phase that took a given time.
+	 * @param phase = the phase that ran
+	 * @param elapsed = how long it took, in nanoseconds
+	 * @return: none
+	 */
+	public void add(Phase phase, long elapsed) {
+		int p = phase.ordinal();
+		int bucket = Math.min(64 - Long.numberOfLeadingZeros(Math.max(elapsed, 0)), BUCKETS - 1);
+		calls.lazySet(p, calls.get(p) + 1);
+		nanos.lazySet(p, nanos.get(p) + elapsed);
+		if (elapsed > maxNanos.get(p)) {
+			maxNanos.lazySet(p, elapsed);
+		}
+		histogram.lazySet(p * BUCKETS + bucket, histogram.get(p * BUCKETS + bucket) + 1);
+	}
+
+	/**
+	 * generationStarted --- The world's per-generation counters were just reset.
+	 * @param : none
+	 * @return: none
+	 */
+	public void generationStarted() {
+		seenMoves = 0;
+		seenEaten = 0;
+		for (int c = 0; c < seenDeaths.length; c++) {
+			seenDeaths[c] = 0;
+		}
+	}
+
+	/**
+	 * stepCompleted --- Counts a finished step and whatever happened in it,
+	 * from the change in the world's per-generation counters.
+	 * @param w = the world that took the step
+	 * @return: none
+	 */
+	public void stepCompleted(World w) {
+		count(STEPS, 1);
+		count(MOVES, w.getMoves() - seenMoves);
+		count(STRAWBERRIES_EATEN, w.getStrawberriesEaten() - seenEaten);
+		seenMoves = w.getMoves();
+		seenEaten = w.getStrawberriesEaten();
+		for (int c = 0; c < CAUSES.length; c++) {
+			int deaths = w.getDeaths(CAUSES[c]);
+			count(DEATHS + c, deaths - seenDeaths[c]);
+			seenDeaths[c] = deaths;
+		}
+		if (resetRequested) {
+			resetRequested = false;
+			zero();
+		}
+	}
+
+	private void count(int event, long amount) {
+		events.lazySet(event, events.get(event) + amount);
+	}
+
+	//==========================================================================
+	// Reading (any thread)
+	//==========================================================================
+
+	public long getCount(Phase phase) {
+		return calls.get(phase.ordinal());
+	}
+
+	public long getTotalNanos(Phase phase) {
+		return nanos.get(phase.ordinal());
+	}
+
+	public long getMaxNanos(Phase phase) {
+		return maxNanos.get(phase.ordinal());
+	}
+
+	public long[] getHistogram(Phase phase) {
+		long[] counts = new long[BUCKETS];
+		for (int b = 0; b < BUCKETS; b++) {
+			counts[b] = histogram.get(phase.ordinal() * BUCKETS + b);
+		}
+		return counts;
+	}
+
+	/**
+	 * getPercentile --- Duration below which a given share of a phase's runs
+	 * fall, read from the histogram, so exact to a power of two.
+	 * @param phase = the phase
+	 * @param share = from 0 to 1, e.g. 0.99
+	 * @return upper bound of the bucket holding that run in ns, 0 if it never ran
+	 */
+	public long getPercentile(Phase phase, double share) {
+		long[] counts = getHistogram(phase);
+		long total = 0;
+		for (long c : counts) {
+			total += c;
+		}
+		long rank = (long) Math.ceil(share * total);
+		long seen = 0;
+		for (int b = 0; b < BUCKETS && total > 0; b++) {
+			seen += counts[b];
+			if (seen >= rank) {
+				return 1L << b;
+			}
+		}
+		return 0;
+	}
+
+	public long getSteps() {
+		return events.get(STEPS);
+	}
+
+	public long getMoves() {
+		return events.get(MOVES);
+	}
+
+	public long getStrawberriesEaten() {
+		return events.get(STRAWBERRIES_EATEN);
+	}
+
+	public long getDeaths(DeathCause cause) {
+		return events.get(DEATHS + cause.ordinal());
+	}
+
+	/**
+	 * reset --- Zeroes every counter at the end of the step the simulation
+	 * is running (the running generation keeps counting from there). A run
+	 * that takes no more steps keeps its counters.
+	 * @param : none
+	 * @return: none
+	 */
+	public void reset() {
+		resetRequested = true;
+	}
+
+	// Simulation thread only
+	private void zero() {
+		for (int k = 0; k < PHASES.length; k++) {
+			calls.lazySet(k, 0);
+			nanos.lazySet(k, 0);
+			maxNanos.lazySet(k, 0);
+		}
+		for (int k = 0; k < histogram.length(); k++) {
+			histogram.lazySet(k, 0);
+		}
+		for (int k = 0; k < EVENTS; k++) {
+			events.lazySet(k, 0);
+		}
+	}
+
+	//==========================================================================
+	// DynamicMBean
+	//==========================================================================
+
+	public Object getAttribute(String name) throws AttributeNotFoundException {
+		switch (name) {
+		case "Steps":
+			return getSteps();
+		case "Generations":
+			return getCount(Phase.PLACEMENT);
+		case "Moves":
+			return getMoves();
+		case "StrawberriesEaten":
+			return getStrawberriesEaten();
+		}
+		for (DeathCause cause : CAUSES) {
+			if (name.equals("Deaths" + camel(cause.name()))) {
+				return getDeaths(cause);
+			}
+		}
+		for (Phase phase : PHASES) {
+			String prefix = camel(phase.name());
+			if (!name.startsWith(prefix)) {
+				continue;
+			}
+			switch (name.substring(prefix.length())) {
+			case "Count":
+				return getCount(phase);
+			case "TotalNanos":
+				return getTotalNanos(phase);
+			case "MeanNanos":
+				long count = getCount(phase);
+				return count == 0 ? 0.0 : (double) getTotalNanos(phase) / count;
+			case "MaxNanos":
+				return getMaxNanos(phase);
+			case "P50Nanos":
+				return getPercentile(phase, 0.5);
+			case "P99Nanos":
+				return getPercentile(phase, 0.99);
+			case "Histogram":
+				return getHistogram(phase);
+			}
+		}
+		throw new AttributeNotFoundException(name);
+	}
+
+	public AttributeList getAttributes(String[] names) {
+		AttributeList list = new AttributeList();
+		for (String name : names) {
+			try {
+				list.add(new Attribute(name, getAttribute(name)));
+			}
+			catch (AttributeNotFoundException e) {
+				// unknown names are left out, as the interface asks
+			}
+		}
+		return list;
+	}
+
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " is read only");
+	}
+
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList(); // everything is read only
+	}
+
+	public Object invoke(String action, Object[] params, String[] signature) throws ReflectionException {
+		if (action.equals("reset") && (params == null || params.length == 0)) {
+			reset();
+			return null;
+		}
+		throw new ReflectionException(new NoSuchMethodException(action));
+	}
+
+	public MBeanInfo getMBeanInfo() {
+		return info;
+	}
+}
@@ -0,0 +1,36 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: SimulationObserver.java
+//==========================================================================
+
+package gameoflife;
+
+public interface SimulationObserver {
+
+	/**
+	 * generationStarted --- called once the board has been populated for a
+	 * new generation, before the first time step is taken.
+	 * @param generation = index of the generation that is starting
+	 * @return: none
+	 */
+	void generationStarted(int generation);
+
+	/**
+	 * stepCompleted --- called after every monster and creature has acted
+	 * for one time step and the dead have been removed.
+	 * @param generation = index of the current generation
+	 * @param step = index of the time step that just finished
+	 * @return: none
+	 */
+	void stepCompleted(int generation, int step);
+
+	/**
+	 * generationCompleted --- called after the last time step of a generation.
+	 * @param generation = index of the generation that just finished
+	 * @param averageLifeForce = total life force of the survivors divided by
+	 * the starting creature population (the generation's fitness)
+	 * @return: none
+	 */
+	void generationCompleted(int generation, double averageLifeForce);
+}
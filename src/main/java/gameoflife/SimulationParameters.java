@@ -0,0 +1,300 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: SimulationParameters.java
+//==========================================================================
+
+package gameoflife;
+
+public class SimulationParameters {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	public static final int FIELDS = 20; // length of toFields()
+
+	private int rows = 40; // Row dimension for game board
+	private int cols = 40; // Column dimension for game board
+
+	private int generations = 50; // Number of generations that will be created with new, different creatures
+	private int time = 50; // Time steps in one generation (# of actions a creature can make)
+	private int lifeForce = 40; // Total energy a creature has, 1 action = -1 lifeForce. 0 lifeForce = death
+
+	//Starting populations for each item in the game
+	private int strawberryPopulation = 200;
+	private int mushroomPopulation = 100;
+	private int creaturePopulation = 100;
+	private int monsterPopulation = 10;
+
+	// Monsters move at different pace than creatures
+	private int monsterStep = 2;
+
+	private int creatureSight = 2; // creature vision range on board
+	private int monsterSight = 2; // monster vision range on board
+
+	// Items are placed in a spawnRows x spawnCols region centered on the board;
+	// 0 means the whole board. Small regions keep huge boards sparse.
+	private int spawnRows = 0;
+	private int spawnCols = 0;
+
+	private long seed = RandomStream.mix(System.nanoTime()); // master seed of the run, printed so it can be replayed
+
+	private boolean bitboards = true; // keep occupancy bitsets next to the item counts for fast vision
+	private boolean fastForward = true; // creatures that see nothing skip looking while nothing can come into sight (with bitboards only)
+
+	private Genome.Crossover crossover = Genome.Crossover.ONE_POINT; // how children's genes are split between parents
+	private Selection.Method selection = Selection.Method.TOURNAMENT; // how parents are drawn from the survivors
+	private int tournamentSize = 6; // survivors drawn per tournament
+
+	//==========================================================================
+	// Copy
+	//==========================================================================
+
+	/**
+	 * copy --- Creates an independent set of parameters with the same values,
+	 * so one world can be tuned without affecting another.
+	 * @param : none
+	 * @return: a new SimulationParameters object
+	 */
+	public SimulationParameters copy() {
+		SimulationParameters p = new SimulationParameters();
+		p.rows = rows;
+		p.cols = cols;
+		p.generations = generations;
+		p.time = time;
+		p.lifeForce = lifeForce;
+		p.strawberryPopulation = strawberryPopulation;
+		p.mushroomPopulation = mushroomPopulation;
+		p.creaturePopulation = creaturePopulation;
+		p.monsterPopulation = monsterPopulation;
+		p.monsterStep = monsterStep;
+		p.creatureSight = creatureSight;
+		p.monsterSight = monsterSight;
+		p.spawnRows = spawnRows;
+		p.spawnCols = spawnCols;
+		p.seed = seed;
+		p.bitboards = bitboards;
+		p.fastForward = fastForward;
+		p.crossover = crossover;
+		p.selection = selection;
+		p.tournamentSize = tournamentSize;
+		return p;
+	}
+
+	//==========================================================================
+	// Serialized form
+	//==========================================================================
+
+	/**
+	 * toFields --- Every parameter as one long, in a fixed order. This is the
+	 * only list of fields that is written out: checkpoints (see Checkpoint)
+	 * and tiled runs (see TileLink) both send these, so adding a parameter
+	 * here and in fromFields is all either of them needs.
+	 * @param : none
+	 * @return the parameters, in the order fromFields reads them
+	 */
+	public long[] toFields() {
+		return new long[] {rows, cols, generations, time, lifeForce,
+				strawberryPopulation, mushroomPopulation, creaturePopulation, monsterPopulation,
+				monsterStep, creatureSight, monsterSight, spawnRows, spawnCols, seed,
+				bitboards ? 1 : 0, fastForward ? 1 : 0, crossover.ordinal(), selection.ordinal(), tournamentSize};
+	}
+
+	/**
+	 * fromFields --- Rebuilds parameters from the longs written by toFields.
+	 * @param f = the fields
+	 * @return a new SimulationParameters object
+	 */
+	public static SimulationParameters fromFields(long[] f) {
+		if (f.length != FIELDS) {
+			throw new IllegalArgumentException("expected " + FIELDS + " parameter fields, got " + f.length);
+		}
+		SimulationParameters p = new SimulationParameters();
+		p.rows = (int) f[0];
+		p.cols = (int) f[1];
+		p.generations = (int) f[2];
+		p.time = (int) f[3];
+		p.lifeForce = (int) f[4];
+		p.strawberryPopulation = (int) f[5];
+		p.mushroomPopulation = (int) f[6];
+		p.creaturePopulation = (int) f[7];
+		p.monsterPopulation = (int) f[8];
+		p.monsterStep = (int) f[9];
+		p.creatureSight = (int) f[10];
+		p.monsterSight = (int) f[11];
+		p.spawnRows = (int) f[12];
+		p.spawnCols = (int) f[13];
+		p.seed = f[14];
+		p.bitboards = f[15] != 0;
+		p.fastForward = f[16] != 0;
+		p.crossover = Genome.Crossover.values()[(int) f[17]];
+		p.selection = Selection.Method.values()[(int) f[18]];
+		p.tournamentSize = (int) f[19];
+		return p;
+	}
+
+	//==========================================================================
+	// Getters/Setters
+	//==========================================================================
+
+	public int getRows() {
+		return rows;
+	}
+
+	public void setRows(int rows) {
+		this.rows = rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	public void setCols(int cols) {
+		this.cols = cols;
+	}
+
+	public int getGenerations() {
+		return generations;
+	}
+
+	public void setGenerations(int generations) {
+		this.generations = generations;
+	}
+
+	public int getTime() {
+		return time;
+	}
+
+	public void setTime(int time) {
+		this.time = time;
+	}
+
+	public int getLifeForce() {
+		return lifeForce;
+	}
+
+	public void setLifeForce(int lifeForce) {
+		this.lifeForce = lifeForce;
+	}
+
+	public int getStrawberryPopulation() {
+		return strawberryPopulation;
+	}
+
+	public void setStrawberryPopulation(int strawberryPopulation) {
+		this.strawberryPopulation = strawberryPopulation;
+	}
+
+	public int getMushroomPopulation() {
+		return mushroomPopulation;
+	}
+
+	public void setMushroomPopulation(int mushroomPopulation) {
+		this.mushroomPopulation = mushroomPopulation;
+	}
+
+	public int getCreaturePopulation() {
+		return creaturePopulation;
+	}
+
+	public void setCreaturePopulation(int creaturePopulation) {
+		this.creaturePopulation = creaturePopulation;
+	}
+
+	public int getMonsterPopulation() {
+		return monsterPopulation;
+	}
+
+	public void setMonsterPopulation(int monsterPopulation) {
+		this.monsterPopulation = monsterPopulation;
+	}
+
+	public int getMonsterStep() {
+		return monsterStep;
+	}
+
+	public void setMonsterStep(int monsterStep) {
+		this.monsterStep = monsterStep;
+	}
+
+	public int getCreatureSight() {
+		return creatureSight;
+	}
+
+	public void setCreatureSight(int creatureSight) {
+		this.creatureSight = creatureSight;
+	}
+
+	public int getMonsterSight() {
+		return monsterSight;
+	}
+
+	public void setMonsterSight(int monsterSight) {
+		this.monsterSight = monsterSight;
+	}
+
+	public int getSpawnRows() {
+		return spawnRows;
+	}
+
+	public void setSpawnRows(int spawnRows) {
+		this.spawnRows = spawnRows;
+	}
+
+	public int getSpawnCols() {
+		return spawnCols;
+	}
+
+	public void setSpawnCols(int spawnCols) {
+		this.spawnCols = spawnCols;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	public boolean getBitboards() {
+		return bitboards;
+	}
+
+	public void setBitboards(boolean bitboards) {
+		this.bitboards = bitboards;
+	}
+
+	public boolean getFastForward() {
+		return fastForward;
+	}
+
+	public void setFastForward(boolean fastForward) {
+		this.fastForward = fastForward;
+	}
+
+	public Genome.Crossover getCrossover() {
+		return crossover;
+	}
+
+	public void setCrossover(Genome.Crossover crossover) {
+		this.crossover = crossover;
+	}
+
+	public Selection.Method getSelection() {
+		return selection;
+	}
+
+	public void setSelection(Selection.Method selection) {
+		this.selection = selection;
+	}
+
+	public int getTournamentSize() {
+		return tournamentSize;
+	}
+
+	public void setTournamentSize(int tournamentSize) {
+		this.tournamentSize = tournamentSize;
+	}
+}
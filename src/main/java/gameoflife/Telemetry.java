@@ -0,0 +1,224 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: Telemetry.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class Telemetry implements Closeable {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	// Record layout: one row of longs per world per generation
+	public static final int WORLD = 0;
+	public static final int GENERATION = 1;
+	public static final int POPULATION = 2; // creatures alive at the end of the generation
+	public static final int FITNESS = 3; // average life force (double bits)
+	public static final int DEATHS = 4; // one field per DeathCause, in ordinal order
+	public static final int STRAWBERRIES_EATEN = DEATHS + DeathCause.values().length; // this generation
+	public static final int GENE_MEANS = STRAWBERRIES_EATEN + 1; // mean of every gene over the survivors (double bits)
+	public static final int WIDTH = GENE_MEANS + Genome.GENES;
+
+	private static final DeathCause[] CAUSES = DeathCause.values(); // values() copies the array on every call
+
+	private static final int BATCH = 256; // records written per drain before checking for more
+	private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1); // consumer sleep when the ring is empty
+
+	private TelemetryRing ring;
+	private BufferedWriter out;
+	private Thread writer;
+	private volatile boolean running = true;
+	private long[] record = new long[WIDTH]; // consumer's copy of the record being written
+	private IOException failure; // first write error, reported on close
+
+	//==========================================================================
+	// Telemetry Constructor
+	//==========================================================================
+
+	/**
+	 * Telemetry --- Structured per-generation results written to a CSV file by
+	 * a background thread. Simulation threads only copy a fixed layout record
+	 * into a lock-free ring (see TelemetryRing) and carry on; they never wait
+	 * for the file, and if the writer falls a whole ring behind, records are
+	 * dropped and counted rather than stalling the simulation.
+	 * @param file = CSV file to be written (replaced if it exists)
+	 * @param capacity = number of records the ring can hold
+	 * @return: none
+	 */
+	public Telemetry(Path file, int capacity) throws IOException {
+		ring = new TelemetryRing(capacity, WIDTH);
+		out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		out.write(header());
+		out.newLine();
+
+		writer = new Thread(this::drain, "telemetry-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	private static String header() {
+		StringBuilder sb = new StringBuilder("world,generation,population,fitness");
+		for (DeathCause cause : DeathCause.values()) {
+			sb.append(",deaths_").append(cause.name().toLowerCase());
+		}
+		sb.append(",strawberries_eaten");
+		for (int g = 0; g < Genome.GENES; g++) {
+			sb.append(",gene").append(g);
+		}
+		return sb.toString();
+	}
+
+	//==========================================================================
+	// Producers
+	//==========================================================================
+
+	/**
+	 * reporter --- An observer that publishes one record per generation of a
+	 * world. Any number of reporters (one per world or island) can share one
+	 * Telemetry.
+	 * @param world = the world being reported on
+	 * @param worldId = number written in the world column
+	 * @return the observer to add to the world's engine
+	 */
+	public SimulationObserver reporter(World world, int worldId) {
+		return new SimulationObserver() {
+			public void generationStarted(int g) {
+			}
+
+			public void stepCompleted(int g, int t) {
+			}
+
+			public void generationCompleted(int g, double averageLifeForce) {
+				record(world, worldId, g, averageLifeForce);
+			}
+		};
+	}
+
+	/**
+	 * record --- Publishes the results of a finished generation. Never blocks.
+	 * @param world = the world that finished the generation
+	 * @param worldId = number written in the world column
+	 * @param generation = generation number
+	 * @param fitness = average life force of the generation
+	 * @return: none
+	 */
+	public void record(World world, int worldId, int generation, double fitness) {
+		long position = ring.claim();
+		if (position < 0) {
+			return; // ring full: dropped and counted
+		}
+
+		CreatureStore creatures = world.getCreatures();
+		int population = creatures.size();
+		ring.put(position, WORLD, worldId);
+		ring.put(position, GENERATION, generation);
+		ring.put(position, POPULATION, population);
+		ring.put(position, FITNESS, fitness);
+		for (DeathCause cause : CAUSES) {
+			ring.put(position, DEATHS + cause.ordinal(), creatures.getDeaths(cause));
+		}
+		ring.put(position, STRAWBERRIES_EATEN, world.getStrawberriesEaten());
+
+		for (int gene = 0; gene < Genome.GENES; gene++) {
+			double sum = 0;
+			for (int i = 0; i < population; i++) {
+				sum += creatures.getGene(i, gene);
+			}
+			ring.put(position, GENE_MEANS + gene, population == 0 ? 0.0 : sum / population);
+		}
+		ring.publish(position);
+	}
+
+	//==========================================================================
+	// Background writer
+	//==========================================================================
+
+	private void drain() {
+		while (running) {
+			if (writeBatch() == 0) {
+				LockSupport.parkNanos(IDLE_NANOS);
+			}
+		}
+		while (writeBatch() > 0) {
+			// whatever was published before close
+		}
+	}
+
+	private int writeBatch() {
+		int written = 0;
+		try {
+			while (written < BATCH && ring.poll(record)) {
+				writeRecord();
+				written ++;
+			}
+			if (written > 0) {
+				out.flush();
+			}
+		}
+		catch (IOException e) {
+			if (failure == null) {
+				failure = e;
+			}
+		}
+		return written;
+	}
+
+	private void writeRecord() throws IOException {
+		out.write(Long.toString(record[WORLD]));
+		out.write(',');
+		out.write(Long.toString(record[GENERATION]));
+		out.write(',');
+		out.write(Long.toString(record[POPULATION]));
+		out.write(',');
+		out.write(Double.toString(Double.longBitsToDouble(record[FITNESS])));
+		for (int f = DEATHS; f <= STRAWBERRIES_EATEN; f++) {
+			out.write(',');
+			out.write(Long.toString(record[f]));
+		}
+		for (int f = GENE_MEANS; f < WIDTH; f++) {
+			out.write(',');
+			out.write(Double.toString(Double.longBitsToDouble(record[f])));
+		}
+		out.newLine();
+	}
+
+	/**
+	 * close --- Writes every record published so far, notes how many were
+	 * dropped, and closes the file.
+	 * @param : none
+	 * @return: none
+	 */
+	public void close() throws IOException {
+		running = false;
+		try {
+			writer.join();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (ring.getDropped() > 0) {
+			out.write("# dropped " + ring.getDropped() + " records");
+			out.newLine();
+		}
+		out.close();
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	public long getDropped() {
+		return ring.getDropped();
+	}
+}
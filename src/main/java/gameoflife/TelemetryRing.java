@@ -0,0 +1,125 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TelemetryRing.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class TelemetryRing {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private int width; // longs per record
+	private int mask; // capacity - 1, capacity is a power of two
+	private long[] records; // record k occupies records[k * width .. (k + 1) * width)
+
+	// sequence[k] == position: slot k is free for the producer claiming position
+	// sequence[k] == position + 1: slot k holds the record published at position
+	private AtomicLongArray sequence;
+	private AtomicLong tail = new AtomicLong(); // next position producers claim
+	private long head; // next position the consumer reads (consumer thread only)
+	private AtomicLong dropped = new AtomicLong(); // records refused because the ring was full
+
+	//==========================================================================
+	// TelemetryRing Constructor
+	//==========================================================================
+
+	/**
+	 * TelemetryRing --- A bounded lock-free queue of fixed size records for
+	 * many producers (simulation threads) and one consumer (the telemetry
+	 * writer). Records are rows of longs in one preallocated array, so
+	 * publishing never allocates. A producer never waits: if the ring is
+	 * full the record is dropped and counted instead.
+	 * @param capacity = number of records the ring holds, rounded up to a power of two
+	 * @param width = number of longs in every record
+	 * @return: none
+	 */
+	public TelemetryRing(int capacity, int width) {
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+		this.width = width;
+		this.mask = size - 1;
+		this.records = new long[size * width];
+		this.sequence = new AtomicLongArray(size);
+		for (int k = 0; k < size; k++) {
+			sequence.set(k, k);
+		}
+	}
+
+	//==========================================================================
+	// Producers
+	//==========================================================================
+
+	/**
+	 * claim --- Reserves the next slot for a record. Fill it with put, then
+	 * hand it to the consumer with publish.
+	 * @param : none
+	 * @return the claimed position, or -1 if the ring is full (the record is
+	 * counted as dropped)
+	 */
+	public long claim() {
+		long position = tail.get();
+		while (true) {
+			long free = sequence.get((int) position & mask) - position;
+			if (free == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					return position;
+				}
+				position = tail.get(); // another producer took it
+			}
+			else if (free < 0) {
+				dropped.incrementAndGet(); // consumer is a whole ring behind
+				return -1;
+			}
+			else {
+				position = tail.get();
+			}
+		}
+	}
+
+	public void put(long position, int field, long value) {
+		records[((int) position & mask) * width + field] = value;
+	}
+
+	public void put(long position, int field, double value) {
+		put(position, field, Double.doubleToRawLongBits(value));
+	}
+
+	public void publish(long position) {
+		sequence.lazySet((int) position & mask, position + 1); // release: the fields above become visible first
+	}
+
+	//==========================================================================
+	// Consumer
+	//==========================================================================
+
+	/**
+	 * poll --- Copies the oldest published record out of the ring and frees
+	 * its slot. Only one thread may poll.
+	 * @param into = array of at least width longs
+	 * @return true if a record was copied, false if the ring is empty
+	 */
+	public boolean poll(long[] into) {
+		int slot = (int) head & mask;
+		if (sequence.get(slot) != head + 1) {
+			return false;
+		}
+		System.arraycopy(records, slot * width, into, 0, width);
+		sequence.lazySet(slot, head + mask + 1); // free for the producer one lap later
+		head ++;
+		return true;
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public int getWidth() {
+		return width;
+	}
+}
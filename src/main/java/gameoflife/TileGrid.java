@@ -0,0 +1,177 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TileGrid.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+
+public class TileGrid {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private int rows; // Row dimension of the whole board
+	private int cols; // Column dimension of the whole board
+	private int tileRows; // tiles down the board
+	private int tileCols; // tiles across the board
+
+	//==========================================================================
+	// TileGrid Constructor
+	//==========================================================================
+
+	/**
+	 * TileGrid --- Splits the board into tileRows x tileCols rectangles of
+	 * (nearly) equal size. Tile numbers go row by row: tile i * tileCols + j
+	 * is the j-th tile of the i-th row of tiles. Every cell belongs to
+	 * exactly one tile.
+	 * @param rows,cols = dimensions of the game board
+	 * @param tileRows,tileCols = number of tiles down and across
+	 * @return: none
+	 */
+	public TileGrid(int rows, int cols, int tileRows, int tileCols) {
+		if (tileRows < 1 || tileCols < 1 || tileRows > rows || tileCols > cols) {
+			throw new IllegalArgumentException("cannot split " + rows + " x " + cols + " into "
+					+ tileRows + " x " + tileCols + " tiles");
+		}
+		this.rows = rows;
+		this.cols = cols;
+		this.tileRows = tileRows;
+		this.tileCols = tileCols;
+	}
+
+	//==========================================================================
+	// Tile bounds
+	//==========================================================================
+
+	public int top(int tile) {
+		return (int) ((long) rows * (tile / tileCols) / tileRows);
+	}
+
+	public int bottom(int tile) {
+		return (int) ((long) rows * (tile / tileCols + 1) / tileRows); // one past the last row
+	}
+
+	public int left(int tile) {
+		return (int) ((long) cols * (tile % tileCols) / tileCols);
+	}
+
+	public int right(int tile) {
+		return (int) ((long) cols * (tile % tileCols + 1) / tileCols); // one past the last column
+	}
+
+	/**
+	 * owner --- The tile a cell belongs to: the last tile row whose top is at
+	 * or above the cell, and the last tile column whose left is at or before it.
+	 * @param row,col = a cell of the board
+	 * @return the tile number
+	 */
+	public int owner(int row, int col) {
+		int i = (int) (((long) (row + 1) * tileRows - 1) / rows);
+		int j = (int) (((long) (col + 1) * tileCols - 1) / cols);
+		return i * tileCols + j;
+	}
+
+	public boolean owns(int tile, int row, int col) {
+		return row >= top(tile) && row < bottom(tile) && col >= left(tile) && col < right(tile);
+	}
+
+	//==========================================================================
+	// Neighbours
+	//==========================================================================
+
+	/**
+	 * neighbours --- The tiles that own a cell within halo cells (rows and
+	 * columns, corners included) of a tile: everything the tile's creatures
+	 * and monsters can see past its edge, and every tile they can step into.
+	 * The relation is symmetric.
+	 * @param tile = the tile whose neighbours are wanted
+	 * @param halo = how far past the tile's edge is looked at, at least 1
+	 * @return the neighbouring tile numbers, in increasing order
+	 */
+	public int[] neighbours(int tile, int halo) {
+		ArrayList<Integer> found = new ArrayList<Integer>();
+		for (int other = 0; other < count(); other ++) {
+			if (other != tile && top(other) < bottom(tile) + halo && bottom(other) > top(tile) - halo
+					&& left(other) < right(tile) + halo && right(other) > left(tile) - halo) {
+				found.add(other);
+			}
+		}
+		int[] neighbours = new int[found.size()];
+		for (int n = 0; n < neighbours.length; n ++) {
+			neighbours[n] = found.get(n);
+		}
+		return neighbours;
+	}
+
+	//==========================================================================
+	// Sharing out a population
+	//==========================================================================
+
+	/**
+	 * share --- Splits a number of items between the tiles in proportion to
+	 * how much of a region (the spawn region) each tile covers, so items
+	 * placed uniformly per tile are spread as if placed over the whole region.
+	 * Fractions are rounded by largest remainder (lower tile first on ties),
+	 * so the shares always add up to total.
+	 * @param total = number of items to share out
+	 * @param top,left = corner of the region
+	 * @param height,width = size of the region
+	 * @return items per tile, indexed by tile number
+	 */
+	public int[] share(int total, int top, int left, int height, int width) {
+		int[] share = new int[count()];
+		long[] remainder = new long[count()];
+		long area = (long) height * width;
+		int given = 0;
+
+		for (int tile = 0; tile < count(); tile ++) {
+			long overlapRows = Math.max(0, Math.min(bottom(tile), top + height) - Math.max(top(tile), top));
+			long overlapCols = Math.max(0, Math.min(right(tile), left + width) - Math.max(left(tile), left));
+			long exact = total * overlapRows * overlapCols; // share times area
+			share[tile] = (int) (exact / area);
+			remainder[tile] = overlapRows * overlapCols == 0 ? -1 : exact % area; // tiles outside get nothing
+			given += share[tile];
+		}
+
+		while (given < total) {
+			int largest = 0;
+			for (int tile = 1; tile < count(); tile ++) {
+				if (remainder[tile] > remainder[largest]) {
+					largest = tile;
+				}
+			}
+			share[largest] ++;
+			remainder[largest] = -1;
+			given ++;
+		}
+		return share;
+	}
+
+	//==========================================================================
+	// Getters
+	//==========================================================================
+
+	public int count() {
+		return tileRows * tileCols;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	public int getTileRows() {
+		return tileRows;
+	}
+
+	public int getTileCols() {
+		return tileCols;
+	}
+}
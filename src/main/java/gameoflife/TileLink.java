@@ -0,0 +1,172 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TileLink.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class TileLink implements Closeable {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final byte[] CLOSED = new byte[0]; // queued once the other side has gone
+	private static final int MAX_FRAME = 1 << 30; // longest message accepted; a longer length means a broken peer
+
+	private Socket socket;
+	private DataOutputStream out;
+
+	// The message being written, sent as one frame (length, then bytes)
+	private ByteArrayOutputStream frame = new ByteArrayOutputStream();
+	private DataOutputStream message = new DataOutputStream(frame);
+
+	// Frames read by the reader thread, oldest first
+	private BlockingQueue<byte[]> received = new LinkedBlockingQueue<byte[]>();
+	private volatile IOException failure; // why the reader stopped
+
+	//==========================================================================
+	// TileLink Constructor
+	//==========================================================================
+
+	/**
+	 * TileLink --- One connection between two processes of a tiled run (a
+	 * worker and the coordinator, or two neighbouring workers), carrying whole
+	 * messages. A daemon thread reads every frame as soon as it arrives, so
+	 * two processes that both send before they receive never block each other
+	 * however large the messages, and every process can send to all of its
+	 * neighbours first and then wait for them.
+	 * @param socket = a connected socket
+	 * @param name = name of the reader thread
+	 * @return: none
+	 */
+	public TileLink(Socket socket, String name) throws IOException {
+		this.socket = socket;
+		socket.setTcpNoDelay(true); // a few small messages per step: send them at once
+		out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+
+		Thread reader = new Thread(() -> read(in), name);
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	private void read(DataInputStream in) {
+		try {
+			while (true) {
+				int length = in.readInt();
+				if (length < 0 || length > MAX_FRAME) {
+					throw new IOException("bad message length " + length + " from " + socket.getRemoteSocketAddress());
+				}
+				// Read in pieces rather than allocating length up front: only what really arrives is held
+				byte[] bytes = in.readNBytes(length);
+				if (bytes.length < length) {
+					throw new EOFException("message from " + socket.getRemoteSocketAddress() + " cut short");
+				}
+				received.add(bytes);
+			}
+		}
+		catch (IOException e) {
+			failure = e; // includes the end of the stream when the other side closes
+		}
+		received.add(CLOSED);
+	}
+
+	//==========================================================================
+	// Messages
+	//==========================================================================
+
+	/**
+	 * message --- Starts a new message, dropping anything written since the
+	 * last send.
+	 * @param : none
+	 * @return the stream to write the message into
+	 */
+	public DataOutputStream message() {
+		frame.reset();
+		return message;
+	}
+
+	/**
+	 * send --- Sends the message written since the last call to message.
+	 * @param : none
+	 * @return: none
+	 */
+	public void send() throws IOException {
+		message.flush();
+		out.writeInt(frame.size());
+		frame.writeTo(out);
+		out.flush();
+	}
+
+	/**
+	 * receive --- Waits for the next message from the other side.
+	 * @param : none
+	 * @return the message, to be read in the order it was written
+	 */
+	public DataInputStream receive() throws IOException {
+		byte[] bytes;
+		try {
+			bytes = received.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for " + socket.getRemoteSocketAddress());
+		}
+		if (bytes == CLOSED) {
+			received.add(CLOSED); // every later receive fails the same way
+			throw new IOException("connection to " + socket.getRemoteSocketAddress() + " closed", failure);
+		}
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+
+	public void close() throws IOException {
+		socket.close();
+	}
+
+	//==========================================================================
+	// Parameters
+	//==========================================================================
+
+	/**
+	 * writeParameters --- Writes every parameter of a run (see
+	 * SimulationParameters.toFields, the same fields a checkpoint holds).
+	 * @param out = message being written
+	 * @param p = parameters to be sent
+	 * @return: none
+	 */
+	public static void writeParameters(DataOutputStream out, SimulationParameters p) throws IOException {
+		long[] fields = p.toFields();
+		out.writeInt(fields.length);
+		for (long field : fields) {
+			out.writeLong(field);
+		}
+	}
+
+	public static SimulationParameters readParameters(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		if (count != SimulationParameters.FIELDS) {
+			throw new IOException("received " + count + " parameters, expected " + SimulationParameters.FIELDS);
+		}
+		long[] fields = new long[count];
+		for (int f = 0; f < fields.length; f ++) {
+			fields[f] = in.readLong();
+		}
+		return SimulationParameters.fromFields(fields);
+	}
+}
@@ -0,0 +1,462 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TileWorker.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class TileWorker {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private TileGrid grid;
+	private int tile; // number of the tile this worker owns
+	private int halo; // cells past the tile's edge copied from the neighbours every step
+	private World world; // board of the whole size; only the tile and its halo are ever filled
+	private SimulationEngine engine; // runs the steps of the tile
+	private Layer[] layers; // strawberries, mushrooms, creatures, monsters
+
+	private TileLink coordinator;
+	private int[] neighbours; // tile numbers, in increasing order
+	private TileLink[] links; // one per neighbour
+	private int[][] boxes; // per neighbour: top, left, bottom, right of our cells inside its halo
+	private int[][] copied; // per neighbour: layer, row, col, count of every cell copied from it last step
+	private int[] copiedSize;
+	private DataOutputStream[] outs; // per neighbour: the migrant message being written
+	private ArrayList<SimulationObserver> observers = new ArrayList<SimulationObserver>(); // see addObserver
+
+	//==========================================================================
+	// TileWorker Constructor
+	//==========================================================================
+
+	/**
+	 * TileWorker --- One tile of a tiled run (see TiledSimulation), in its own
+	 * process. The world it simulates has the size of the whole board, but
+	 * layers only allocate the chunks that hold something, so memory follows
+	 * the tile. Before every step the cells within halo of its edge are
+	 * copied from the neighbours that own them (strawberries, mushrooms,
+	 * creatures and monsters alike). The halo is a snapshot from the start of
+	 * the step: near the edge, creatures and monsters see the neighbour's side
+	 * as it was then, not after the neighbour's creatures moved or ate, so a
+	 * run on several tiles is not the run one board would give (one tile is).
+	 * After the step, every creature and monster that stepped off the tile is
+	 * sent to the neighbour that owns its new cell.
+	 * @param coordinator = link to the coordinator
+	 * @param peers = socket the neighbours connect to, already announced
+	 * @return: none
+	 */
+	public TileWorker(TileLink coordinator, ServerSocket peers) throws IOException {
+		this.coordinator = coordinator;
+
+		DataInputStream setup = coordinator.receive();
+		tile = setup.readInt();
+		int tileRows = setup.readInt();
+		int tileCols = setup.readInt();
+		SimulationParameters params = TileLink.readParameters(setup);
+		long seed = setup.readLong();
+		String[] hosts = new String[tileRows * tileCols];
+		int[] ports = new int[hosts.length];
+		for (int t = 0; t < hosts.length; t ++) {
+			hosts[t] = setup.readUTF();
+			ports[t] = setup.readInt();
+		}
+
+		// Nothing outside the halo is known here, so creatures cannot tell how long they will see nothing
+		params.setFastForward(false);
+		world = new World(params, seed);
+		engine = new SimulationEngine(world);
+		layers = new Layer[] {world.getStrawberryLocations(), world.getMushroomLocations(),
+				world.getCreatureLocations(), world.getMonsterLocations()};
+
+		grid = new TileGrid(params.getRows(), params.getCols(), tileRows, tileCols);
+		halo = Math.max(Math.max(params.getCreatureSight(), params.getMonsterSight()), 1);
+		neighbours = grid.neighbours(tile, halo);
+		links = new TileLink[neighbours.length];
+		boxes = new int[neighbours.length][];
+		copied = new int[neighbours.length][64];
+		copiedSize = new int[neighbours.length];
+		outs = new DataOutputStream[neighbours.length];
+
+		for (int n = 0; n < neighbours.length; n ++) {
+			int other = neighbours[n];
+			boxes[n] = new int[] {
+					Math.max(grid.top(tile), grid.top(other) - halo), Math.max(grid.left(tile), grid.left(other) - halo),
+					Math.min(grid.bottom(tile), grid.bottom(other) + halo), Math.min(grid.right(tile), grid.right(other) + halo)};
+		}
+		connect(peers, hosts, ports);
+	}
+
+	/**
+	 * addObserver --- Registers an observer of the tile, told when a
+	 * generation has been placed, after every step once the migrants have
+	 * been traded (so every creature and monster on the tile is inside it),
+	 * and when the generation is over, with the life force of the tile's
+	 * survivors averaged over the whole population.
+	 * @param o = the observer
+	 * @return: none
+	 */
+	public void addObserver(SimulationObserver o) {
+		observers.add(o);
+	}
+
+	/**
+	 * connect --- Links up with every neighbour: the lower tile number of each
+	 * pair connects and the higher one accepts, so no pair is linked twice and
+	 * nobody waits on a connection that is never made.
+	 * @param peers = socket the neighbours with lower numbers connect to
+	 * @param hosts,ports = where every tile's worker accepts its neighbours
+	 * @return: none
+	 */
+	private void connect(ServerSocket peers, String[] hosts, int[] ports) throws IOException {
+		for (int n = 0; n < neighbours.length; n ++) {
+			if (neighbours[n] > tile) {
+				links[n] = new TileLink(new Socket(hosts[neighbours[n]], ports[neighbours[n]]), "tile " + neighbours[n]);
+				links[n].message().writeInt(tile);
+				links[n].send();
+			}
+		}
+		for (int n = 0; n < neighbours.length; n ++) {
+			if (neighbours[n] < tile) {
+				TileLink link = new TileLink(peers.accept(), "tile link");
+				int other = link.receive().readInt();
+				links[Arrays.binarySearch(neighbours, other)] = link;
+			}
+		}
+		peers.close();
+	}
+
+	//==========================================================================
+	// Run the Tile
+	//==========================================================================
+
+	/**
+	 * run --- Plays every generation the coordinator sends: places it, runs
+	 * its steps in lock step with the neighbours, and reports the survivors.
+	 * Returns when the coordinator says there are no more generations, and
+	 * closes every link either way.
+	 * @param : none
+	 * @return: none
+	 */
+	public void run() throws IOException {
+		int time = world.getParameters().getTime();
+
+		try {
+			while (true) {
+				DataInputStream generation = coordinator.receive();
+				int g = generation.readInt();
+				if (g < 0) {
+					break;
+				}
+				place(g, generation);
+				for (int o = 0; o < observers.size(); o ++) {
+					observers.get(o).generationStarted(g);
+				}
+
+				for (int t = 0; t < time; t ++) {
+					exchangeHalo();
+					engine.step(t);
+					exchangeMigrants();
+					for (int o = 0; o < observers.size(); o ++) {
+						observers.get(o).stepCompleted(g, t);
+					}
+				}
+
+				if (!observers.isEmpty()) {
+					CreatureStore creatures = world.getCreatures();
+					long totalLifeForce = 0;
+					for (int i = 0; i < creatures.size(); i ++) {
+						totalLifeForce += creatures.getEnergy(i);
+					}
+					double average = (double) totalLifeForce / world.getParameters().getCreaturePopulation();
+					for (int o = 0; o < observers.size(); o ++) {
+						observers.get(o).generationCompleted(g, average);
+					}
+				}
+				report();
+			}
+		}
+		finally {
+			// Also when the tile failed: the neighbours and the coordinator
+			// then fail too instead of waiting for it
+			for (TileLink link : links) {
+				link.close();
+			}
+			coordinator.close();
+		}
+	}
+
+	/**
+	 * place --- Empties the tile and places a generation in the part of the
+	 * spawn region it covers, the way World.newGeneration places one on the
+	 * whole board (monsters, creatures, strawberries, then mushrooms off the
+	 * strawberries), from the tile's own placement stream. The numbers of each
+	 * and the creatures' chromosomes come from the coordinator.
+	 * @param g = number of the generation
+	 * @param in = the rest of the coordinator's message
+	 * @return: none
+	 */
+	private void place(int g, DataInputStream in) throws IOException {
+		world.clearGeneration(g);
+		Arrays.fill(copiedSize, 0); // the halo went with the board
+
+		int strawberries = in.readInt();
+		int mushrooms = in.readInt();
+		int monsters = in.readInt();
+		int monsterNumber = in.readInt(); // tracking number of the first monster
+		int creatures = in.readInt();
+		int creatureNumber = in.readInt();
+
+		int top = Math.max(world.getSpawnTop(), grid.top(tile));
+		int left = Math.max(world.getSpawnLeft(), grid.left(tile));
+		int height = Math.min(world.getSpawnTop() + world.getSpawnRows(), grid.bottom(tile)) - top;
+		int width = Math.min(world.getSpawnLeft() + world.getSpawnCols(), grid.right(tile)) - left;
+		RandomStream random = world.getPlacementRandom();
+
+		for (int m = 0; m < monsters; m ++) {
+			int row = top + random.nextInt(height);
+			int col = left + random.nextInt(width);
+			world.getMonsterLocations().increment(row, col);
+			world.getMonsterList().add(new Monster(row, col, monsterNumber - m));
+		}
+
+		for (int c = 0; c < creatures; c ++) {
+			int row = top + random.nextInt(height);
+			int col = left + random.nextInt(width);
+			world.getCreatureLocations().increment(row, col);
+			int slot = world.getCreatures().add(row, col, world.getParameters().getLifeForce(), in.readLong(), creatureNumber - c);
+			world.getCreatureIndex().add(slot, row, col);
+		}
+
+		for (int s = 0; s < strawberries; s ++) {
+			world.getStrawberryLocations().increment(top + random.nextInt(height), left + random.nextInt(width));
+		}
+
+		while (mushrooms > 0) {
+			int row = top + random.nextInt(height);
+			int col = left + random.nextInt(width);
+			if (world.getStrawberryLocations().get(row, col) == 0) {
+				world.getMushroomLocations().increment(row, col); //Ensure strawberry and mushrooms share different spaces
+				mushrooms --;
+			}
+		}
+	}
+
+	//==========================================================================
+	// Halo exchange
+	//==========================================================================
+
+	/**
+	 * exchangeHalo --- Sends every neighbour the counts of our cells inside
+	 * its halo, then replaces the halo copied from each neighbour last step
+	 * with what it sent now. Only cells holding something are sent.
+	 * @param : none
+	 * @return: none
+	 */
+	private void exchangeHalo() throws IOException {
+		for (int n = 0; n < neighbours.length; n ++) {
+			DataOutputStream out = links[n].message();
+			int[] box = boxes[n];
+			for (Layer layer : layers) {
+				for (int row = box[0]; row < box[2]; row ++) {
+					for (int col = box[1]; col < box[3]; col ++) {
+						int count = layer.get(row, col);
+						if (count > 0) {
+							out.writeInt(row);
+							out.writeInt(col);
+							out.writeInt(count);
+						}
+					}
+				}
+				out.writeInt(-1); // end of this layer
+			}
+			links[n].send();
+		}
+
+		for (int n = 0; n < neighbours.length; n ++) {
+			DataInputStream in = links[n].receive();
+
+			// Take back last step's copy, cell by cell
+			int[] cells = copied[n];
+			for (int k = 0; k < copiedSize[n]; k += 4) {
+				layers[cells[k]].add(cells[k + 1], cells[k + 2], -cells[k + 3]);
+			}
+			copiedSize[n] = 0;
+
+			for (int l = 0; l < layers.length; l ++) {
+				for (int row = in.readInt(); row >= 0; row = in.readInt()) {
+					int col = in.readInt();
+					int count = in.readInt();
+					layers[l].add(row, col, count);
+					remember(n, l, row, col, count);
+				}
+			}
+		}
+	}
+
+	private void remember(int n, int layer, int row, int col, int count) {
+		if (copiedSize[n] + 4 > copied[n].length) {
+			copied[n] = Arrays.copyOf(copied[n], copied[n].length * 2);
+		}
+		int[] cells = copied[n];
+		int k = copiedSize[n];
+		cells[k] = layer;
+		cells[k + 1] = row;
+		cells[k + 2] = col;
+		cells[k + 3] = count;
+		copiedSize[n] = k + 4;
+	}
+
+	//==========================================================================
+	// Migration
+	//==========================================================================
+
+	/**
+	 * exchangeMigrants --- Sends every creature and monster standing outside
+	 * the tile to the neighbour that owns its cell (creatures in slot order,
+	 * monsters in list order), then takes in the ones the neighbours sent, in
+	 * neighbour order, so the run does not depend on which message came first.
+	 * @param : none
+	 * @return: none
+	 */
+	private void exchangeMigrants() throws IOException {
+		for (int n = 0; n < neighbours.length; n ++) {
+			outs[n] = links[n].message();
+		}
+
+		CreatureStore creatures = world.getCreatures();
+		for (int i = 0; i < creatures.size(); i ++) {
+			int row = creatures.getRow(i);
+			int col = creatures.getCol(i);
+			if (!creatures.isDead(i) && !grid.owns(tile, row, col)) {
+				DataOutputStream out = outs[neighbourOf(row, col)];
+				out.writeInt(row);
+				out.writeInt(col);
+				out.writeInt(creatures.getEnergy(i));
+				out.writeLong(creatures.getGenome(i));
+				out.writeInt(creatures.getTrackingNumber(i));
+
+				world.getCreatureLocations().decrement(row, col);
+				world.getCreatureIndex().remove(i, row, col);
+				creatures.release(i);
+			}
+		}
+
+		ArrayList<Monster> monsters = world.getMonsterList();
+		int kept = 0;
+		for (int m = 0; m < monsters.size(); m ++) {
+			Monster monster = monsters.get(m);
+			if (grid.owns(tile, monster.getRow(), monster.getCol())) {
+				monsters.set(kept ++, monster);
+				continue;
+			}
+			DataOutputStream out = outs[neighbourOf(monster.getRow(), monster.getCol())];
+			out.writeInt(-1 - monster.getRow()); // negative: a monster, not a creature
+			out.writeInt(monster.getCol());
+			out.writeInt(monster.getTrackingNum());
+			world.getMonsterLocations().decrement(monster.getRow(), monster.getCol());
+		}
+		while (monsters.size() > kept) {
+			monsters.remove(monsters.size() - 1);
+		}
+
+		for (int n = 0; n < neighbours.length; n ++) {
+			outs[n].writeInt(Integer.MIN_VALUE); // end of the migrants
+			links[n].send();
+		}
+		world.removeDead(); // frees the slots of the creatures that left
+
+		for (int n = 0; n < neighbours.length; n ++) {
+			DataInputStream in = links[n].receive();
+			for (int row = in.readInt(); row != Integer.MIN_VALUE; row = in.readInt()) {
+				if (row < 0) {
+					row = -1 - row;
+					int col = in.readInt();
+					world.getMonsterLocations().increment(row, col);
+					monsters.add(new Monster(row, col, in.readInt()));
+				}
+				else {
+					int col = in.readInt();
+					int energy = in.readInt();
+					long genome = in.readLong();
+					int slot = creatures.add(row, col, energy, genome, in.readInt());
+					world.getCreatureIndex().add(slot, row, col);
+					world.getCreatureLocations().increment(row, col);
+				}
+			}
+		}
+	}
+
+	private int neighbourOf(int row, int col) {
+		int n = Arrays.binarySearch(neighbours, grid.owner(row, col));
+		if (n < 0) {
+			throw new IllegalStateException("tile " + tile + " has no neighbour owning " + row + "," + col);
+		}
+		return n;
+	}
+
+	//==========================================================================
+	// Report to the coordinator
+	//==========================================================================
+
+	/**
+	 * report --- Sends the coordinator the chromosome, life force and tracking
+	 * number of every creature alive at the end of the generation, in slot order.
+	 * @param : none
+	 * @return: none
+	 */
+	private void report() throws IOException {
+		CreatureStore creatures = world.getCreatures();
+		DataOutputStream out = coordinator.message();
+		out.writeInt(creatures.size());
+		for (int i = 0; i < creatures.size(); i ++) {
+			out.writeLong(creatures.getGenome(i));
+			out.writeInt(creatures.getEnergy(i));
+			out.writeInt(creatures.getTrackingNumber(i));
+		}
+		coordinator.send();
+	}
+
+	public int getTile() {
+		return tile;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	//==========================================================================
+	// Start a Worker
+	//==========================================================================
+
+	/**
+	 * main --- Starts a worker: connects to the coordinator at host:port,
+	 * announces where its neighbours can reach it (a free port on the same
+	 * interface), and plays its tile until the run is over. TiledSimulation
+	 * starts one per tile on this host; on other hosts start them by hand.
+	 * @param args = coordinator host and port
+	 * @return: none
+	 */
+	public static void main(String[] args) throws IOException {
+		Socket socket = new Socket(args[0], Integer.parseInt(args[1]));
+		TileLink coordinator = new TileLink(socket, "coordinator");
+		ServerSocket peers = new ServerSocket(0, 50, socket.getLocalAddress());
+
+		DataOutputStream hello = coordinator.message();
+		hello.writeUTF(socket.getLocalAddress().getHostAddress());
+		hello.writeInt(peers.getLocalPort());
+		coordinator.send();
+
+		new TileWorker(coordinator, peers).run();
+	}
+}
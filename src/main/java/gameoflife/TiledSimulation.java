@@ -0,0 +1,273 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TiledSimulation.java
+//==========================================================================
+
+package gameoflife;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+
+public class TiledSimulation {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private SimulationParameters params;
+	private TileGrid grid;
+	private World world; // holds the survivors of every tile, the parent pool and the genetics stream
+	private TileLink[] tiles; // link to the worker of each tile, by tile number
+	private ArrayList<Process> processes = new ArrayList<Process>(); // workers started by launch
+
+	private ArrayList<SimulationObserver> observers = new ArrayList<SimulationObserver>();
+
+	private int generations; // Number of generations to run
+	private int generationsTaken; // generations completed
+	private int lastTotalLifeForce; // total life force of the survivors of the last generation
+	private long elapsedNanos; // wall clock time spent running generations
+
+	//==========================================================================
+	// TiledSimulation Constructor
+	//==========================================================================
+
+	/**
+	 * TiledSimulation --- The coordinator of a run whose board is split into
+	 * tileRows x tileCols tiles, each simulated by a TileWorker in its own
+	 * process, so the board can outgrow one JVM. Workers exchange halos and
+	 * migrants with their neighbours directly; the coordinator only shares
+	 * out each generation and collects the survivors, so selection and
+	 * breeding still see the whole population, exactly as on one board.
+	 * Creatures near a tile edge see the far side as it was at the start of
+	 * the step (like the two-phase parallel step), so results depend on the
+	 * seed and the tiling, never on timing. With a single tile the run is the
+	 * same as the sequential single-process run.
+	 * @param params = parameters of the whole board
+	 * @param tileRows,tileCols = number of tiles down and across
+	 * @return: none
+	 */
+	public TiledSimulation(SimulationParameters params, int tileRows, int tileCols) {
+		this.params = params;
+		this.grid = new TileGrid(params.getRows(), params.getCols(), tileRows, tileCols);
+		this.world = new World(params);
+		this.generations = params.getGenerations();
+		this.tiles = new TileLink[grid.count()];
+	}
+
+	public void addObserver(SimulationObserver o) {
+		observers.add(o);
+	}
+
+	//==========================================================================
+	// Starting the workers
+	//==========================================================================
+
+	/**
+	 * launch --- Starts one worker JVM per tile on this host, with this JVM's
+	 * class path, and connects them over the loopback interface.
+	 * @param : none
+	 * @return: none
+	 */
+	public void launch() throws IOException {
+		try (ServerSocket server = new ServerSocket(0, grid.count(), InetAddress.getLoopbackAddress())) {
+			server.setSoTimeout(60000); // a worker that failed to start must not hang the run
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			for (int t = 0; t < grid.count(); t ++) {
+				processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+						"gameoflife.TileWorker", server.getInetAddress().getHostAddress(), String.valueOf(server.getLocalPort()))
+						.inheritIO().start());
+			}
+			accept(server);
+		}
+	}
+
+	/**
+	 * accept --- Waits for one worker per tile to connect (started by launch,
+	 * or by hand with "java gameoflife.TileWorker host port", on any host),
+	 * gives each its tile, the parameters, its seed and where every other
+	 * worker can be reached. Tile 0 plays with the run's seed; tile t with
+	 * RandomStream.derive(seed, t).
+	 * @param server = socket the workers connect to
+	 * @return: none
+	 */
+	public void accept(ServerSocket server) throws IOException {
+		String[] hosts = new String[tiles.length];
+		int[] ports = new int[tiles.length];
+		for (int t = 0; t < tiles.length; t ++) {
+			tiles[t] = new TileLink(server.accept(), "worker " + t);
+			DataInputStream hello = tiles[t].receive();
+			hosts[t] = hello.readUTF();
+			ports[t] = hello.readInt();
+		}
+
+		for (int t = 0; t < tiles.length; t ++) {
+			DataOutputStream out = tiles[t].message();
+			out.writeInt(t);
+			out.writeInt(grid.getTileRows());
+			out.writeInt(grid.getTileCols());
+			TileLink.writeParameters(out, params);
+			out.writeLong(t == 0 ? world.getSeed() : RandomStream.derive(world.getSeed(), t));
+			for (int other = 0; other < tiles.length; other ++) {
+				out.writeUTF(hosts[other]);
+				out.writeInt(ports[other]);
+			}
+			tiles[t].send();
+		}
+	}
+
+	//==========================================================================
+	// Run the Simulation
+	//==========================================================================
+
+	/**
+	 * run --- Runs every remaining generation, then stops the workers.
+	 * @param : none
+	 * @return: life force of the final generation averaged over the number of generations
+	 */
+	public double run() throws IOException {
+		while (generationsTaken < generations) {
+			runGeneration();
+		}
+		close();
+		return (double) lastTotalLifeForce / generations;
+	}
+
+	/**
+	 * runGeneration --- Runs one generation on every tile. Breeds the whole
+	 * population (a random one the first time) from the survivors of every
+	 * tile, shares creatures, monsters and food out between the tiles by how
+	 * much of the spawn region each covers, then waits for each tile's survivors.
+	 * @param : none
+	 * @return: average life force of the generation (its fitness)
+	 */
+	public double runGeneration() throws IOException {
+		long start = System.nanoTime();
+		int g = generationsTaken;
+		CreatureStore survivors = world.getCreatures();
+
+		if (g > 0) {
+			world.getSelection().prepare(survivors); // the parent pool covers every tile
+		}
+
+		int top = world.getSpawnTop();
+		int left = world.getSpawnLeft();
+		int height = world.getSpawnRows();
+		int width = world.getSpawnCols();
+		int[] strawberries = grid.share(params.getStrawberryPopulation(), top, left, height, width);
+		int[] mushrooms = grid.share(params.getMushroomPopulation(), top, left, height, width);
+		int[] monsters = grid.share(params.getMonsterPopulation(), top, left, height, width);
+		int[] creatures = grid.share(params.getCreaturePopulation(), top, left, height, width);
+
+		// Tracking numbers count down over the tiles, as they do on one board
+		int monsterNumber = params.getMonsterPopulation();
+		int creatureNumber = params.getCreaturePopulation();
+
+		for (int t = 0; t < tiles.length; t ++) {
+			DataOutputStream out = tiles[t].message();
+			out.writeInt(g);
+			out.writeInt(strawberries[t]);
+			out.writeInt(mushrooms[t]);
+			out.writeInt(monsters[t]);
+			out.writeInt(monsterNumber);
+			out.writeInt(creatures[t]);
+			out.writeInt(creatureNumber);
+			for (int c = 0; c < creatures[t]; c ++) {
+				out.writeLong(g == 0 ? world.newChromosome() : Creature.nextChromo(world, world.getSelection()));
+			}
+			tiles[t].send();
+			monsterNumber -= monsters[t];
+			creatureNumber -= creatures[t];
+		}
+
+		for (int o = 0; o < observers.size(); o ++) {
+			observers.get(o).generationStarted(g);
+		}
+
+		// Survivors of every tile, in tile order, become the next parent pool
+		survivors.clear();
+		int totalLifeForce = 0;
+		for (int t = 0; t < tiles.length; t ++) {
+			DataInputStream in = tiles[t].receive();
+			int count = in.readInt();
+			for (int c = 0; c < count; c ++) {
+				long genome = in.readLong();
+				int lifeForce = in.readInt();
+				survivors.add(0, 0, lifeForce, genome, in.readInt());
+				totalLifeForce += lifeForce;
+			}
+		}
+
+		double average = (double) totalLifeForce / params.getCreaturePopulation();
+		lastTotalLifeForce = totalLifeForce;
+		generationsTaken ++;
+		elapsedNanos += System.nanoTime() - start;
+
+		for (int o = 0; o < observers.size(); o ++) {
+			observers.get(o).generationCompleted(g, average);
+		}
+		return average;
+	}
+
+	/**
+	 * close --- Tells every worker the run is over and waits for the workers
+	 * this coordinator started to exit.
+	 * @param : none
+	 * @return: none
+	 */
+	public void close() throws IOException {
+		for (TileLink tile : tiles) {
+			if (tile != null) {
+				tile.message().writeInt(-1);
+				tile.send();
+				tile.close();
+			}
+		}
+		for (Process process : processes) {
+			try {
+				process.waitFor();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				process.destroy();
+			}
+		}
+	}
+
+	//==========================================================================
+	// Throughput
+	//==========================================================================
+
+	/**
+	 * getStepsPerSecond --- time steps of the whole board completed per second
+	 * of wall clock time
+	 * @param : none
+	 * @return: steps per second, or 0 before the run has started
+	 */
+	public double getStepsPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return (double) generationsTaken * params.getTime() / (elapsedNanos / 1e9);
+	}
+
+	public double getGenerationsPerSecond() {
+		if (elapsedNanos == 0) {
+			return 0;
+		}
+		return generationsTaken / (elapsedNanos / 1e9);
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public TileGrid getGrid() {
+		return grid;
+	}
+}
@@ -0,0 +1,698 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: World.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+
+public class World {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private SimulationParameters params; // sizes, populations and timings of this world
+	private int rows; // Row dimension for game board
+	private int cols; // Column dimension for game board
+
+	// Region items are placed in, centered on the board (the whole board by default)
+	private int spawnTop;
+	private int spawnLeft;
+	private int spawnRows;
+	private int spawnCols;
+
+	private Layer strawberryLocations;
+	private Layer mushroomLocations;
+	private Layer creatureLocations;
+	private Layer monsterLocations;
+	private boolean fastForward; // creatures that see nothing skip looking (see Creature.quietSteps)
+
+	private CreatureStore creatures; // live creatures, one slot each (structure of arrays)
+	private CellIndex creatureIndex; // creature slots bucketed by the cell they stand on
+	private Selection selection; // parents of future generations, drawn from the last one's survivors
+	private int[] sensorReadings = new int[Creature.SENSES]; // reused by every creature's sensing step
+	private ArrayList<Monster> monsterList = new ArrayList<Monster>(); // monster objects
+
+	// Every random choice made in this world comes from its seed, split into
+	// independent streams so one kind of draw never shifts another
+	private long seed;
+	private RandomStream placementRandom; // where items are placed
+	private RandomStream geneticsRandom; // new chromosomes, parent selection, crossover and mutation
+	private long behaviorSeed; // creature and monster moves, drawn per entity (see behaviorDraw)
+	private int generation; // generations placed so far, minus one
+	private int step; // time step being played
+	private int strawberriesEaten; // this generation
+	private int moves; // creature moves this generation
+
+	//==========================================================================
+	// World Constructor
+	//==========================================================================
+
+	/**
+	 * World --- Creates an empty board that owns its own grids, creatures,
+	 * monsters and random numbers, so any number of worlds can run side by side.
+	 * Its random numbers come from the seed in params.
+	 * @param params = sizes, populations and timings of this world
+	 * @return: none
+	 */
+	public World(SimulationParameters params) {
+		this(params, params.getSeed());
+	}
+
+	/**
+	 * World --- Creates an empty board whose every random choice follows from
+	 * one seed: the same seed and parameters always play out the same way.
+	 * @param params = sizes, populations and timings of this world
+	 * @param seed = master seed of this world (see RandomStream.derive for
+	 * giving each of several worlds its own)
+	 * @return: none
+	 */
+	public World(SimulationParameters params, long seed) {
+		this.params = params;
+		this.rows = params.getRows();
+		this.cols = params.getCols();
+		this.seed = seed;
+		placementRandom = new RandomStream(RandomStream.derive(seed, 0));
+		geneticsRandom = new RandomStream(RandomStream.derive(seed, 1));
+		behaviorSeed = RandomStream.derive(seed, 2);
+
+		spawnRows = params.getSpawnRows() > 0 ? Math.min(params.getSpawnRows(), rows) : rows;
+		spawnCols = params.getSpawnCols() > 0 ? Math.min(params.getSpawnCols(), cols) : cols;
+		spawnTop = (rows - spawnRows) / 2;
+		spawnLeft = (cols - spawnCols) / 2;
+
+		boolean bitboards = params.getBitboards();
+		strawberryLocations = new Layer(rows, cols, bitboards);
+		mushroomLocations = new Layer(rows, cols, bitboards);
+		creatureLocations = new Layer(rows, cols, bitboards);
+		monsterLocations = new Layer(rows, cols, bitboards);
+		// Without bitboards finding the nearest item reads every cell of a wide square, which costs more than the looks it saves
+		fastForward = params.getFastForward() && bitboards;
+		creatures = new CreatureStore(params.getCreaturePopulation());
+		creatureIndex = new CellIndex(rows, cols, params.getCreaturePopulation());
+		selection = new Selection(params.getSelection(), params.getTournamentSize());
+	}
+
+	//==========================================================================
+	// Initial Generation Board Info
+	//==========================================================================
+
+	/**
+	 * initialBoardInfo --- Create the information required to set up the game
+	 * board, including first generation of creature, monster, strawberry and 
+	 * mushroom locations on board.
+	 * @param : none
+	 * @return: none
+	 */ 
+	public void initialBoardInfo() {
+		generation = 0;
+		step = 0;
+		strawberriesEaten = 0;
+		moves = 0;
+		int strawberries = params.getStrawberryPopulation();
+		int mushrooms = params.getMushroomPopulation();
+		int creatures = params.getCreaturePopulation();
+		int monsters = params.getMonsterPopulation();
+
+		int randomRow = 0;
+		int randomCol = 0;
+
+		//---------------------------------------------------------------------
+		// Randomly place items throughout the board and update their locations
+		//---------------------------------------------------------------------
+
+		while (monsters > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			monsterLocations.increment(randomRow, randomCol);
+			monsterList.add(new Monster(randomRow,randomCol, monsters));
+			monsters --;
+		}
+
+		while (creatures > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			creatureLocations.increment(randomRow, randomCol);
+			long newChromosome = newChromosome();
+			int slot = this.creatures.add(randomRow, randomCol, params.getLifeForce(), newChromosome, creatures);
+			creatureIndex.add(slot, randomRow, randomCol);
+			creatures --;
+		}
+
+		while(strawberries > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			strawberryLocations.increment(randomRow, randomCol);
+			strawberries --;
+		}
+
+		while(mushrooms > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			if (strawberryLocations.get(randomRow, randomCol) == 0) {
+				mushroomLocations.increment(randomRow, randomCol); //Ensure strawberry and mushrooms share different spaces
+				mushrooms --;
+			}
+		}
+	}
+
+
+	//==========================================================================
+	// New Generation Board Info
+	//==========================================================================
+
+	/**
+	 * newGeneration --- Offers the same setup as initialBoardInfo but allows for
+	 * new creatures to be created based on parents of the previous generation
+	 * (the creatures still alive in this world)
+	 * @param : none
+	 * @return: none
+	 */ 
+	public void newGeneration() {
+		// Record survivors for mating: the parent pool is built once for the whole generation
+		selection.prepare(this.creatures);
+
+		// Clear past board, object lists and variables
+		clearGeneration(generation + 1);
+
+		int strawberries = params.getStrawberryPopulation();
+		int mushrooms = params.getMushroomPopulation();
+		int creatures = params.getCreaturePopulation();
+		int monsters = params.getMonsterPopulation();
+
+		int randomRow = 0;
+		int randomCol = 0;
+
+		//---------------------------------------------------------------------
+		// Randomly place items throughout the board and update their locations
+		//---------------------------------------------------------------------
+
+		while (monsters > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			monsterLocations.increment(randomRow, randomCol);
+			monsterList.add(new Monster(randomRow,randomCol, monsters));
+			monsters --;
+		}
+
+		while (creatures > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			creatureLocations.increment(randomRow, randomCol);
+			long nextGenChromo = Creature.nextChromo(this, selection);
+			int slot = this.creatures.add(randomRow, randomCol, params.getLifeForce(), nextGenChromo, creatures);
+			creatureIndex.add(slot, randomRow, randomCol);
+			creatures --;
+		}
+
+		while(strawberries > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			strawberryLocations.increment(randomRow, randomCol);
+			strawberries --;
+		}
+
+		while(mushrooms > 0) {
+			randomRow = spawnTop + placementRandom.nextInt(spawnRows);
+			randomCol = spawnLeft + placementRandom.nextInt(spawnCols);
+			if (strawberryLocations.get(randomRow, randomCol) == 0) {
+				mushroomLocations.increment(randomRow, randomCol); //Ensure strawberry and mushrooms share different spaces
+				mushrooms --;
+			}
+		}
+	}
+
+	/**
+	 * clearGeneration --- Empties the board, the creature store, the monster
+	 * list and the per-generation counters, and numbers the next generation.
+	 * newGeneration then places a generation itself; a tile of a tiled run
+	 * (see TileWorker) places the creatures it is sent instead.
+	 * @param g = number of the generation about to be placed
+	 * @return: none
+	 */
+	public void clearGeneration(int g) {
+		generation = g;
+		step = 0;
+		strawberriesEaten = 0;
+		moves = 0;
+
+		creatureLocations.clear();
+		monsterLocations.clear();
+		mushroomLocations.clear();
+		strawberryLocations.clear();
+
+		creatures.clear();
+		monsterList.clear();
+		creatureIndex.clear();
+	}
+
+	//==========================================================================
+	// Remove the dead
+	//==========================================================================
+
+	/**
+	 * removeDead --- Removes every creature flagged dead since the last call
+	 * from the creature store (one swap-remove sweep).
+	 * @param : none
+	 * @return: none
+	 */
+	public void removeDead() {
+		creatures.removeDead(creatureIndex);
+	}
+
+	/**
+	 * totalLifeForce --- Sum of the life force of every creature alive.
+	 * @param : none
+	 * @return: total life force
+	 */
+	public int totalLifeForce() {
+		int total = 0;
+		for (int i = 0; i < creatures.size(); i++) {
+			total += creatures.getEnergy(i);
+		}
+		return total;
+	}
+
+	//==========================================================================
+	// Migration between worlds
+	//==========================================================================
+
+	/**
+	 * fittestCreatures --- Finds the creatures with the most life force left,
+	 * used to pick the genomes that migrate to other worlds.
+	 * @param count = how many creatures to return
+	 * @return arraylist of at most count creature copies, fittest first
+	 */
+	public ArrayList<Creature> fittestCreatures(int count) {
+		ArrayList<Creature> sorted = creatures.toCreatures();
+		sorted.sort((a, b) -> b.getLifeForce() - a.getLifeForce());
+
+		while (sorted.size() > count) {
+			sorted.remove(sorted.size() - 1);
+		}
+		return sorted;
+	}
+
+	/**
+	 * acceptMigrants --- Copies creatures from another world into this one so
+	 * that they take part in the next call to newGeneration. Each migrant takes
+	 * over the slot of one of the weakest survivors; if the population is not
+	 * full, migrants are added without being placed on the board.
+	 * @param migrants = creatures selected in another world
+	 * @return: none
+	 */
+	public void acceptMigrants(ArrayList<Creature> migrants) {
+		ArrayList<Integer> weakest = new ArrayList<Integer>();
+		for (int i = 0; i < creatures.size(); i++) {
+			weakest.add(i);
+		}
+		weakest.sort((a, b) -> creatures.getEnergy(a) - creatures.getEnergy(b));
+
+		int room = params.getCreaturePopulation() - creatures.size(); // empty places in the population
+		int next = 0; // next weakest survivor to be replaced
+
+		for (Creature m : migrants) {
+			if (room > 0) {
+				creatures.add(0, 0, m.getLifeForce(), m.getGenome(), m.getTrackingNumber());
+				room --;
+			}
+			else if (next < weakest.size()) {
+				creatures.replace(weakest.get(next++), m);
+			}
+		}
+	}
+
+	//==========================================================================
+	// Build a new Chromosome
+	//==========================================================================
+
+	/**
+	 * newChromosome --- Creates a 'chromosome' for each creature from first
+	 * generation through complete randomness that affects the way a creature 
+	 * behaves throughout a game.
+	 * @param : none
+	 * @return: long that holds each chromome attribute, packed (see Genome)
+	 */ 
+	public long newChromosome() {
+
+		double r = geneticsRandom.nextDouble();
+
+		int[] c = new int[Genome.GENES];
+
+		//-------------------------------------
+		//action to do when strawberry present 
+		//-------------------------------------
+		if (r < .50) {
+			c[0] = 1; // Eat
+		}
+		else {
+			c[0] = 0; // Don't Eat
+		}
+
+		//-------------------------------------
+		//action to do when mushroom present 
+		//-------------------------------------
+		r = geneticsRandom.nextDouble() +.01;;
+
+		if (r < .50) {
+			c[1] = 1; // Eat
+		}
+		else {
+			c[1] = 0; // Don't Eat
+		}
+
+		//-------------------------------------
+		//action to do when strawberry is near
+		//-------------------------------------
+		r =  geneticsRandom.nextDouble() +.01;;
+
+		if (r < .5 && r > .25) {
+			c[2] = 1; // Move Towards
+		}
+
+		else if (r < .75 && r > .5) {
+			c[2] = 2; // Move Away
+		}
+
+		else if (r < 1 && r > .75) {
+			c[2] = 3; // Move Random
+		}
+		else {
+			c[2] = 0; // Ignore
+		}
+
+		//--------------------------------
+		//action on nearest mushroom
+		//--------------------------------
+		r =  geneticsRandom.nextDouble() +.01;
+
+		if (r < .5 && r > .25) {
+			c[3] = 1; // Move Towards
+		}
+
+		else if (r < .75 && r > .5) {
+			c[3] = 2; // Move Away
+		}
+
+		else if (r < 1 && r > .75) {
+			c[3] = 3; // Move Random
+		}
+		else {
+			c[3] = 0; // Ignore
+		}
+
+		//-------------------------------
+		// action on nearest monster
+		//-------------------------------
+		r =  geneticsRandom.nextDouble() +.01;
+
+		if (r < .5 && r > .25) {
+			c[4] = 1; // Move Towards
+		}
+
+		else if (r < .75 && r > .5) {
+			c[4] = 2; // Move Away
+		}
+
+		else if (r < 1 && r > .75) {
+			c[4] = 3; // Move Random
+		}
+		else {
+			c[4] = 0; // Ignore
+		}
+
+
+		//-------------------------------
+		// action on nearest creature
+		//-------------------------------
+		r =  geneticsRandom.nextDouble();
+
+		if (r < .5 && r > .25) {
+			c[5] = 1; // Move Towards
+		}
+
+		else if (r < .75 && r > .5) {
+			c[5] = 2; // Move Away
+		}
+
+		else if (r < 1 && r > .75) {
+			c[5] = 3; // Move Random
+		}
+		else {
+			c[5] = 0; // Ignore
+		}
+
+		//-------------------------------
+		// Default Action
+		//-------------------------------
+		r =  geneticsRandom.nextDouble();
+
+		if (r <= .4  && r > .20) {
+			c[6] = 1; // Move Up
+		}
+
+		else if (r <= .6 && r > .4) {
+			c[6] = 2; // Move Down
+		}
+
+		else if (r <= .8 && r > .6) {
+			c[6] = 3; // Move Right
+		}
+
+		else if (r <= 1 && r > .8) {
+			c[6] = 4; // Move Left
+		}
+
+		// random
+		else {
+			c[6] = 0; // Move Random
+		}
+
+		//--------------------------------------------------
+		// weight 8-13 (To offer priority level to actions)
+		//--------------------------------------------------
+
+		c[7] = geneticsRandom.nextInt(10);
+
+		c[8] = geneticsRandom.nextInt(10);
+
+		c[9] = geneticsRandom.nextInt(10);
+
+		c[10] = geneticsRandom.nextInt(10);
+
+		c[11] = geneticsRandom.nextInt(10);
+
+		c[12] = geneticsRandom.nextInt(10);
+
+		return Genome.pack(c);
+	}
+
+
+	//==========================================================================
+	// Checkpoints
+	//==========================================================================
+
+	/**
+	 * save --- Writes the board (see Checkpoint.save): the four layers, the
+	 * creatures, the monsters, the generation and step counters and the state
+	 * of the random streams.
+	 * @param out = checkpoint being written
+	 * @return: none
+	 */
+	public void save(Checkpoint.Output out) {
+		strawberryLocations.save(out);
+		mushroomLocations.save(out);
+		creatureLocations.save(out);
+		monsterLocations.save(out);
+		creatures.save(out);
+
+		out.writeInt(monsterList.size());
+		for (Monster m : monsterList) {
+			out.writeInt(m.getRow());
+			out.writeInt(m.getCol());
+			out.writeInt(m.getTrackingNum());
+		}
+
+		out.writeLong(placementRandom.getState());
+		out.writeLong(geneticsRandom.getState());
+		out.writeInt(generation);
+		out.writeInt(step);
+	}
+
+	/**
+	 * load --- Replaces the board with one written by save. The creature index
+	 * is rebuilt from the creatures' positions.
+	 * @param in = checkpoint being read
+	 * @return: none
+	 */
+	public void load(Checkpoint.Input in) {
+		strawberryLocations.load(in);
+		mushroomLocations.load(in);
+		creatureLocations.load(in);
+		monsterLocations.load(in);
+		creatures.load(in);
+
+		creatureIndex.clear();
+		for (int i = 0; i < creatures.size(); i++) {
+			creatureIndex.add(i, creatures.getRow(i), creatures.getCol(i));
+		}
+
+		monsterList.clear();
+		int monsters = in.readInt();
+		for (int m = 0; m < monsters; m++) {
+			monsterList.add(new Monster(in.readInt(), in.readInt(), in.readInt()));
+		}
+
+		placementRandom.setState(in.readLong());
+		geneticsRandom.setState(in.readLong());
+		generation = in.readInt();
+		step = in.readInt();
+	}
+
+	//==========================================================================
+	// Behavior draws
+	//==========================================================================
+
+	/**
+	 * creatureDraw --- The random number a creature uses for its move this step.
+	 * It depends only on the seed, generation, step and creature slot, never on
+	 * how many draws were made before it, so creatures can decide on any number
+	 * of threads and the run stays bit-identical.
+	 * @param slot = the creature's slot in the store
+	 * @param bound = number of possible results
+	 * @return a number in [0, bound)
+	 */
+	public int creatureDraw(int slot, int bound) {
+		return RandomStream.bounded(RandomStream.hash(behaviorSeed, generation, step, slot), bound);
+	}
+
+	/**
+	 * monsterDraw --- Same as creatureDraw, for a monster.
+	 * @param trackingNumber = the monster's tracking number
+	 * @param bound = number of possible results
+	 * @return a number in [0, bound)
+	 */
+	public int monsterDraw(int trackingNumber, int bound) {
+		// negative ids keep monsters apart from creature slots
+		return RandomStream.bounded(RandomStream.hash(behaviorSeed, generation, step, -1L - trackingNumber), bound);
+	}
+
+	//==========================================================================
+	// Getters
+	//==========================================================================
+
+	public SimulationParameters getParameters() {
+		return params;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	public int getSpawnTop() {
+		return spawnTop;
+	}
+
+	public int getSpawnLeft() {
+		return spawnLeft;
+	}
+
+	public int getSpawnRows() {
+		return spawnRows;
+	}
+
+	public int getSpawnCols() {
+		return spawnCols;
+	}
+
+	public Layer getStrawberryLocations() {
+		return strawberryLocations;
+	}
+
+	public Layer getMushroomLocations() {
+		return mushroomLocations;
+	}
+
+	public Layer getMonsterLocations() {
+		return monsterLocations;
+	}
+
+	public Layer getCreatureLocations() {
+		return creatureLocations;
+	}
+
+	public boolean getFastForward() {
+		return fastForward;
+	}
+
+	public CellIndex getCreatureIndex() {
+		return creatureIndex;
+	}
+
+	public int getDeaths(DeathCause cause) {
+		return creatures.getDeaths(cause);
+	}
+
+	public CreatureStore getCreatures() {
+		return creatures;
+	}
+
+	public Selection getSelection() {
+		return selection;
+	}
+
+	public int[] getSensorReadings() {
+		return sensorReadings;
+	}
+
+	public ArrayList<Monster> getMonsterList() {
+		return monsterList;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public RandomStream getPlacementRandom() {
+		return placementRandom;
+	}
+
+	public RandomStream getGeneticsRandom() {
+		return geneticsRandom;
+	}
+
+	public int getGeneration() {
+		return generation;
+	}
+
+	public int getStep() {
+		return step;
+	}
+
+	public void setStep(int step) {
+		this.step = step;
+	}
+
+	public int getStrawberriesEaten() {
+		return strawberriesEaten;
+	}
+
+	public void countStrawberryEaten() {
+		strawberriesEaten ++;
+	}
+
+	public int getMoves() {
+		return moves;
+	}
+
+	public void countMove() {
+		moves ++;
+	}
+}
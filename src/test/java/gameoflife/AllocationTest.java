@@ -0,0 +1,165 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: AllocationTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.junit.jupiter.api.Test;
+
+public class AllocationTest {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final long SEED = 42; // every measured world is placed the same way
+	private static final int WARMUP = 10; // generations run before counting, so the JIT has compiled what it can
+	private static final int GENERATIONS = 5; // generations counted
+	private static final long GENERATION_BUDGET = 256 * 1024; // bytes to breed and place one generation
+
+	// The caller parks once per step waiting for the planners, and
+	// ForkJoinTask allocates a small wait node for that
+	private static final long PARALLEL_STEP_BUDGET = 32;
+
+	//==========================================================================
+	// Harness
+	//==========================================================================
+
+	/**
+	 * Harness --- Measures how many bytes an engine allocates per time step
+	 * and per generation change, on every thread that runs it, with the JVM's
+	 * per-thread allocation counters (which cost nothing to read). Bytes
+	 * between generationStarted and generationCompleted are the steps of a
+	 * generation, the rest is breeding and placing the next one.
+	 */
+	static class Harness implements SimulationObserver {
+		private com.sun.management.ThreadMXBean threads;
+		private long[] ids; // threads whose allocations are counted: the caller and the engine's workers
+		private long mark; // allocated bytes at the last call
+		private boolean measuring;
+		private long mostStepBytes; // most bytes allocated by the steps of one generation
+		private long fewestStepBytes = Long.MAX_VALUE; // fewest bytes allocated by the steps of one generation
+		private long setupBytes; // most bytes allocated placing one generation
+
+		Harness(ArrayList<Thread> workers) {
+			threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			threads.setThreadAllocatedMemoryEnabled(true);
+			ids = new long[workers.size() + 1];
+			ids[0] = Thread.currentThread().getId();
+			for (int k = 0; k < workers.size(); k ++) {
+				ids[k + 1] = workers.get(k).getId();
+			}
+		}
+
+		private long allocated() {
+			long total = 0;
+			for (long id : ids) {
+				total += Math.max(threads.getThreadAllocatedBytes(id), 0); // -1 for a thread that is gone
+			}
+			return total;
+		}
+
+		public void generationStarted(int generation) {
+			long now = allocated();
+			if (measuring) {
+				setupBytes = Math.max(setupBytes, now - mark);
+			}
+			mark = now;
+		}
+
+		public void stepCompleted(int generation, int step) {
+		}
+
+		public void generationCompleted(int generation, double averageLifeForce) {
+			long now = allocated();
+			if (measuring) {
+				mostStepBytes = Math.max(mostStepBytes, now - mark);
+				fewestStepBytes = Math.min(fewestStepBytes, now - mark);
+			}
+			mark = now;
+		}
+
+		void measure(SimulationEngine engine) {
+			engine.addObserver(this);
+			for (int g = 0; g < WARMUP; g ++) {
+				engine.runGeneration();
+			}
+			measuring = true;
+			for (int g = 0; g < GENERATIONS; g ++) {
+				engine.runGeneration();
+			}
+			measuring = false;
+		}
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	private static SimulationParameters params() {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(SEED);
+		params.setRows(400);
+		params.setCols(400);
+		params.setCreaturePopulation(4000);
+		params.setStrawberryPopulation(8000);
+		params.setMushroomPopulation(2000);
+		params.setMonsterPopulation(200);
+		params.setLifeForce(params.getTime() + 10); // enough survivors to breed from every generation
+		return params;
+	}
+
+	/**
+	 * sequentialStepAllocatesNothing --- Not a byte in any generation's steps.
+	 */
+	@Test
+	public void sequentialStepAllocatesNothing() {
+		Harness harness = new Harness(new ArrayList<Thread>());
+		harness.measure(new SimulationEngine(new World(params())));
+		assertTrue(harness.mostStepBytes == 0, harness.mostStepBytes + " bytes in one generation's steps");
+		assertTrue(harness.setupBytes <= GENERATION_BUDGET, harness.setupBytes + " bytes to place one generation");
+	}
+
+	/**
+	 * parallelStepWithinBudget --- The wait nodes come and go with how often
+	 * the caller has to park, so the budget is held to by the quietest
+	 * generation: an allocation in the step loop itself shows in every one.
+	 */
+	@Test
+	public void parallelStepWithinBudget() {
+		int threads = 4;
+
+		// Workers are created up front and kept, so their counters can be read
+		ArrayList<Thread> workers = new ArrayList<Thread>();
+		ForkJoinPool pool = new ForkJoinPool(threads, p -> {
+			ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+			synchronized (workers) {
+				workers.add(worker);
+			}
+			return worker;
+		}, null, false);
+		pool.invokeAll(Collections.nCopies(threads * 4, () -> null)); // start every worker
+
+		try {
+			SimulationParameters params = params();
+			Harness harness = new Harness(workers);
+			harness.measure(new SimulationEngine(new World(params), pool));
+			double perStep = (double) harness.fewestStepBytes / params.getTime();
+			assertTrue(perStep <= PARALLEL_STEP_BUDGET, perStep + " bytes per step");
+			assertTrue(harness.setupBytes <= GENERATION_BUDGET, harness.setupBytes + " bytes to place one generation");
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
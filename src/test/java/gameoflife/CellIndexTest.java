@@ -0,0 +1,140 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: CellIndexTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CellIndexTest {
+
+	//==========================================================================
+	// Checks
+	//==========================================================================
+
+	/**
+	 * assertConsistent --- Every live creature is in the bucket of the cell it
+	 * stands on exactly once, dead ones are in no bucket, and the buckets hold
+	 * nothing else.
+	 * @param index = the index under test
+	 * @param store = the creatures it should follow
+	 * @param rows,cols = dimensions of the board
+	 * @return: none
+	 */
+	static void assertConsistent(CellIndex index, CreatureStore store, int rows, int cols) {
+		int live = 0;
+		for (int i = 0; i < store.size(); i ++) {
+			int found = 0;
+			for (int s = index.first(store.getRow(i), store.getCol(i)); s != CellIndex.NONE; s = index.next(s)) {
+				assertEquals(store.getRow(i), store.getRow(s), "slot " + s + " is in another cell's bucket");
+				assertEquals(store.getCol(i), store.getCol(s), "slot " + s + " is in another cell's bucket");
+				if (s == i) {
+					found ++;
+				}
+			}
+			assertEquals(store.isDead(i) ? 0 : 1, found, "slot " + i + " found in its cell's bucket");
+			if (!store.isDead(i)) {
+				live ++;
+			}
+		}
+
+		int linked = 0;
+		for (int r = 0; r < rows; r ++) {
+			for (int c = 0; c < cols; c ++) {
+				for (int s = index.first(r, c); s != CellIndex.NONE; s = index.next(s)) {
+					linked ++;
+				}
+			}
+		}
+		assertEquals(live, linked, "creatures in the buckets");
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	/**
+	 * randomOperations --- Adds, moves (within and across chunks), kills and
+	 * compacts creatures at random on a small board where many share a cell,
+	 * checking the index against the store after every operation.
+	 */
+	@Test
+	public void randomOperations() {
+		int rows = 2 * Layer.CHUNK + 5;
+		int cols = Layer.CHUNK + 3;
+		Random random = new Random(4);
+		CreatureStore store = new CreatureStore(8);
+		CellIndex index = new CellIndex(rows, cols, 8);
+
+		for (int op = 0; op < 20000; op ++) {
+			int kind = random.nextInt(10);
+			if (kind < 4 || store.size() == 0) {
+				int r = random.nextInt(rows);
+				int c = random.nextInt(cols);
+				int slot = store.add(r, c, 10, random.nextLong(), op);
+				index.add(slot, r, c);
+			}
+			else if (kind < 7) {
+				int i = random.nextInt(store.size());
+				int r = Math.floorMod(store.getRow(i) + random.nextInt(3) - 1, rows);
+				int c = Math.floorMod(store.getCol(i) + random.nextInt(3) - 1, cols);
+				if (!store.isDead(i)) {
+					index.move(i, store.getRow(i), store.getCol(i), r, c);
+					store.setPosition(i, r, c);
+				}
+			}
+			else if (kind < 9) {
+				int i = random.nextInt(store.size());
+				if (!store.isDead(i)) {
+					index.remove(i, store.getRow(i), store.getCol(i));
+					store.kill(i, DeathCause.STARVATION);
+				}
+			}
+			else if (random.nextInt(50) == 0) {
+				store.clear();
+				index.clear();
+			}
+			else {
+				store.removeDead(index);
+			}
+			assertConsistent(index, store, rows, cols);
+		}
+	}
+
+	/**
+	 * followsTheWorld --- The world's index stays consistent with its
+	 * creatures after every step of a seeded run, through deaths, compaction
+	 * and the placing of new generations.
+	 */
+	@Test
+	public void followsTheWorld() {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(4);
+		params.setRows(120);
+		params.setCols(120);
+		params.setCreaturePopulation(600);
+		params.setMonsterPopulation(60);
+		params.setGenerations(3);
+		World world = new World(params);
+		SimulationEngine engine = new SimulationEngine(world);
+		engine.addObserver(new SimulationObserver() {
+			public void generationStarted(int generation) {
+				assertConsistent(world.getCreatureIndex(), world.getCreatures(), world.getRows(), world.getCols());
+			}
+
+			public void stepCompleted(int generation, int step) {
+				assertConsistent(world.getCreatureIndex(), world.getCreatures(), world.getRows(), world.getCols());
+			}
+
+			public void generationCompleted(int generation, double averageLifeForce) {
+			}
+		});
+		engine.run();
+	}
+}
@@ -0,0 +1,140 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: CheckpointTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CheckpointTest {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final int GENERATIONS = 4; // before and after the checkpoint
+
+	@TempDir
+	Path dir;
+
+	//==========================================================================
+	// Runs
+	//==========================================================================
+
+	private static SimulationParameters params() {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(13);
+		params.setRows(200);
+		params.setCols(200);
+		params.setCreaturePopulation(1500);
+		params.setStrawberryPopulation(3000);
+		params.setMushroomPopulation(1500);
+		params.setMonsterPopulation(60);
+		return params;
+	}
+
+	private static SimulationEngine engine(ForkJoinPool pool) {
+		World world = new World(params());
+		return pool == null ? new SimulationEngine(world) : new SimulationEngine(world, pool);
+	}
+
+	private Path saved(ForkJoinPool pool) throws IOException {
+		SimulationEngine engine = engine(pool);
+		for (int g = 0; g < GENERATIONS; g ++) {
+			engine.runGeneration();
+		}
+		Path file = dir.resolve("run.ck");
+		Checkpoint.save(engine, file);
+		return file;
+	}
+
+	/**
+	 * roundTrip --- Runs a world straight through, digesting the second half,
+	 * and again with a checkpoint saved halfway and restored into a new
+	 * engine; the restored run must go on step for step like the original.
+	 * @param pool = threads for the parallel step, or null for the sequential step
+	 * @return: none
+	 */
+	private void roundTrip(ForkJoinPool pool) throws IOException {
+		SimulationEngine original = engine(pool);
+		for (int g = 0; g < GENERATIONS; g ++) {
+			original.runGeneration();
+		}
+		StateDigest expected = new StateDigest(original.getWorld());
+		original.addObserver(expected);
+		for (int g = 0; g < GENERATIONS; g ++) {
+			original.runGeneration();
+		}
+
+		SimulationEngine restored = Checkpoint.restore(saved(pool), pool);
+		SimulationParameters p = restored.getWorld().getParameters();
+		assertEquals(13, p.getSeed());
+		assertEquals(200, p.getRows());
+		assertEquals(60, p.getMonsterPopulation());
+		assertEquals(GENERATIONS, restored.getGenerationsTaken());
+
+		StateDigest actual = new StateDigest(restored.getWorld());
+		restored.addObserver(actual);
+		for (int g = 0; g < GENERATIONS; g ++) {
+			restored.runGeneration();
+		}
+		assertEquals(expected.getDigest(), actual.getDigest());
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	@Test
+	public void sequentialRunCarriesOn() throws IOException {
+		roundTrip(null);
+	}
+
+	@Test
+	public void parallelRunCarriesOn() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			roundTrip(pool);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * otherVersionRefused --- The version is the second int of the file,
+	 * after the magic number.
+	 */
+	@Test
+	public void otherVersionRefused() throws IOException {
+		Path file = saved(null);
+		byte[] bytes = Files.readAllBytes(file);
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, Checkpoint.VERSION + 1);
+		Files.write(file, bytes);
+		assertThrows(IOException.class, () -> Checkpoint.restore(file, null));
+	}
+
+	@Test
+	public void truncatedFileRefused() throws IOException {
+		Path file = saved(null);
+		byte[] bytes = Files.readAllBytes(file);
+		for (int length : new int[] {0, 6, 40, bytes.length / 2, bytes.length - 1}) {
+			Files.write(file, Arrays.copyOf(bytes, length));
+			assertThrows(IOException.class, () -> Checkpoint.restore(file, null), length + " bytes");
+		}
+	}
+}
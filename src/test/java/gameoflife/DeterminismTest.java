@@ -0,0 +1,102 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: DeterminismTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class DeterminismTest {
+
+	//==========================================================================
+	// Runs
+	//==========================================================================
+
+	private static SimulationParameters params() {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(11);
+		params.setRows(150);
+		params.setCols(150);
+		params.setCreaturePopulation(800);
+		params.setStrawberryPopulation(1500);
+		params.setMushroomPopulation(500);
+		params.setMonsterPopulation(40);
+		params.setGenerations(4);
+		return params;
+	}
+
+	/**
+	 * digest --- Runs every generation of a world and digests it after every
+	 * step (see StateDigest).
+	 * @param engine = the engine of the world
+	 * @return the digest of the whole run
+	 */
+	static long digest(SimulationEngine engine) {
+		StateDigest digest = new StateDigest(engine.getWorld());
+		engine.addObserver(digest);
+		engine.run();
+		return digest.getDigest();
+	}
+
+	/**
+	 * worlds --- Runs independent worlds derived from one seed, the way
+	 * "--worlds n" does, on a pool of the given number of threads.
+	 * @param params = parameters every world shares
+	 * @param worlds = number of worlds
+	 * @param threads = threads they are run on
+	 * @return the digest of every world
+	 */
+	static long[] worlds(SimulationParameters params, int worlds, int threads) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		ArrayList<Future<Long>> results = new ArrayList<Future<Long>>();
+		for (int w = 0; w < worlds; w ++) {
+			SimulationEngine engine = new SimulationEngine(new World(params.copy(), RandomStream.derive(params.getSeed(), w)));
+			results.add(pool.submit(() -> digest(engine)));
+		}
+		long[] digests = new long[worlds];
+		for (int w = 0; w < worlds; w ++) {
+			digests[w] = results.get(w).get();
+		}
+		pool.shutdown();
+		return digests;
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	@Test
+	public void sameSeedSameRun() {
+		long first = digest(new SimulationEngine(new World(params())));
+		long second = digest(new SimulationEngine(new World(params())));
+		assertEquals(first, second);
+
+		SimulationParameters other = params();
+		other.setSeed(12);
+		assertNotEquals(first, digest(new SimulationEngine(new World(other))));
+	}
+
+	/**
+	 * worldsOnAnyNumberOfThreads --- Worlds derived from one seed run the same
+	 * whether they share one thread or each has its own, and differ from
+	 * one another.
+	 */
+	@Test
+	public void worldsOnAnyNumberOfThreads() throws Exception {
+		long[] one = worlds(params(), 4, 1);
+		long[] four = worlds(params(), 4, 4);
+		assertArrayEquals(one, four);
+		assertNotEquals(one[0], one[1]);
+	}
+}
@@ -0,0 +1,125 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: FastForwardTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class FastForwardTest {
+
+	//==========================================================================
+	// Runs
+	//==========================================================================
+
+	/**
+	 * digest --- Runs every generation of a world and digests it after every
+	 * step (see StateDigest).
+	 * @param params = parameters of the world
+	 * @param fastForward = whether creatures that see nothing skip looking
+	 * @param pool = threads for the parallel step, or null for the sequential step
+	 * @return the digest of the whole run
+	 */
+	private static long digest(SimulationParameters params, boolean fastForward, ForkJoinPool pool) {
+		SimulationParameters p = params.copy();
+		p.setFastForward(fastForward);
+		World world = new World(p);
+		return DeterminismTest.digest(pool == null ? new SimulationEngine(world) : new SimulationEngine(world, pool));
+	}
+
+	private static void assertSame(SimulationParameters params, ForkJoinPool pool) {
+		assertEquals(digest(params, false, pool), digest(params, true, pool), "seed " + params.getSeed());
+	}
+
+	private static SimulationParameters denseBoard() {
+		SimulationParameters dense = new SimulationParameters();
+		dense.setSeed(21);
+		dense.setGenerations(4);
+		return dense;
+	}
+
+	// Most creatures see nothing for long stretches: where skipping pays off
+	private static SimulationParameters sparseBoard() {
+		SimulationParameters sparse = new SimulationParameters();
+		sparse.setSeed(22);
+		sparse.setRows(600);
+		sparse.setCols(600);
+		sparse.setCreaturePopulation(1000);
+		sparse.setStrawberryPopulation(1000);
+		sparse.setMushroomPopulation(300);
+		sparse.setMonsterPopulation(30);
+		sparse.setGenerations(3);
+		return sparse;
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	@Test
+	public void dense() {
+		assertSame(denseBoard(), null);
+	}
+
+	@Test
+	public void sparse() {
+		assertSame(sparseBoard(), null);
+	}
+
+	@Test
+	public void longerSight() {
+		SimulationParameters sight = denseBoard();
+		sight.setCreatureSight(4);
+		sight.setMonsterSight(3);
+		assertSame(sight, null);
+	}
+
+	@Test
+	public void withoutBitboards() {
+		SimulationParameters counts = sparseBoard();
+		counts.setBitboards(false);
+		assertSame(counts, null);
+	}
+
+	@Test
+	public void parallel() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertSame(sparseBoard(), pool);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * randomWorlds --- Small worlds with every size, population, life force
+	 * and sight drawn from the seed, where creatures meet often and die in
+	 * every order, so compaction moves them between each other's turns.
+	 */
+	@Test
+	public void randomWorlds() {
+		for (long seed = 0; seed < 150; seed ++) {
+			RandomStream random = new RandomStream(RandomStream.derive(2100, seed));
+			SimulationParameters params = new SimulationParameters();
+			params.setSeed(seed);
+			params.setRows(60 + random.nextInt(120));
+			params.setCols(60 + random.nextInt(120));
+			params.setCreaturePopulation(50 + random.nextInt(300));
+			params.setMushroomPopulation(random.nextInt(300));
+			params.setStrawberryPopulation(random.nextInt(300));
+			params.setMonsterPopulation(random.nextInt(40));
+			params.setLifeForce(10 + random.nextInt(40));
+			params.setCreatureSight(1 + random.nextInt(4));
+			params.setMonsterSight(1 + random.nextInt(4));
+			params.setGenerations(3);
+			assertSame(params, null);
+		}
+	}
+}
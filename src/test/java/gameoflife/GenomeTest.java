@@ -0,0 +1,117 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: GenomeTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class GenomeTest {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final long ALL = (1L << (Genome.GENES * Genome.BITS)) - 1; // every gene's bits
+
+	private Random random = new Random(18);
+
+	//==========================================================================
+	// Helpers
+	//==========================================================================
+
+	private long randomGenome() {
+		return random.nextLong() & ALL;
+	}
+
+	/**
+	 * assertFrom --- Every gene of the child is the whole gene of one parent:
+	 * a's where from[g] is true, b's elsewhere. The parents differ in every
+	 * bit, so a gene spliced from both would match neither.
+	 * @param child = genome under test
+	 * @param a,b = parents, b == a ^ ALL
+	 * @param from = for every gene, whether it should come from a
+	 * @return: none
+	 */
+	private static void assertFrom(long child, long a, long b, boolean[] from) {
+		assertEquals(0, child & ~ALL, "bits above the last gene");
+		for (int g = 0; g < Genome.GENES; g ++) {
+			assertEquals(Genome.gene(from[g] ? a : b, g), Genome.gene(child, g), "gene " + g);
+		}
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	@Test
+	public void packAndReplace() {
+		int[] genes = new int[Genome.GENES];
+		for (int g = 0; g < genes.length; g ++) {
+			genes[g] = random.nextInt(16);
+		}
+		long genome = Genome.pack(genes);
+		for (int g = 0; g < genes.length; g ++) {
+			assertEquals(genes[g], Genome.gene(genome, g));
+			long changed = Genome.with(genome, g, 15 - genes[g]);
+			assertEquals(15 - genes[g], Genome.gene(changed, g));
+			assertEquals(genome & ~(15L << (g * Genome.BITS)), changed & ~(15L << (g * Genome.BITS)), "other genes");
+		}
+	}
+
+	@Test
+	public void onePoint() {
+		for (int trial = 0; trial < 200; trial ++) {
+			long a = randomGenome();
+			long b = a ^ ALL;
+			for (int point = 0; point <= Genome.GENES; point ++) {
+				boolean[] from = new boolean[Genome.GENES];
+				for (int g = 0; g < point; g ++) {
+					from[g] = true;
+				}
+				assertFrom(Genome.onePoint(a, b, point), a, b, from);
+			}
+		}
+	}
+
+	@Test
+	public void twoPoint() {
+		for (int trial = 0; trial < 50; trial ++) {
+			long a = randomGenome();
+			long b = a ^ ALL;
+			for (int start = 0; start <= Genome.GENES; start ++) {
+				for (int end = start; end <= Genome.GENES; end ++) {
+					boolean[] from = new boolean[Genome.GENES];
+					for (int g = 0; g < Genome.GENES; g ++) {
+						from[g] = g < start || g >= end;
+					}
+					assertFrom(Genome.twoPoint(a, b, start, end), a, b, from);
+				}
+			}
+		}
+	}
+
+	/**
+	 * uniform --- Gene g comes from a when bit 4g of the random bits is set;
+	 * the other bits of the nibble do not matter.
+	 */
+	@Test
+	public void uniform() {
+		for (int trial = 0; trial < 2000; trial ++) {
+			long a = randomGenome();
+			long b = a ^ ALL;
+			long bits = random.nextLong();
+			boolean[] from = new boolean[Genome.GENES];
+			for (int g = 0; g < Genome.GENES; g ++) {
+				from[g] = (bits >>> (g * Genome.BITS) & 1) != 0;
+			}
+			assertFrom(Genome.uniform(a, b, bits), a, b, from);
+		}
+	}
+}
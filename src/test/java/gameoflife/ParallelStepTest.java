@@ -0,0 +1,44 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: ParallelStepTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelStepTest {
+
+	private static long digest(int threads) {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(12);
+		params.setRows(150);
+		params.setCols(150);
+		params.setCreaturePopulation(1500);
+		params.setMonsterPopulation(60);
+		params.setGenerations(3);
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			return DeterminismTest.digest(new SimulationEngine(new World(params), pool));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * sameRunOnAnyNumberOfThreads --- The two-phase step gives the same run
+	 * step for step whether the creatures decide on one thread or several.
+	 */
+	@Test
+	public void sameRunOnAnyNumberOfThreads() {
+		long one = digest(1);
+		assertEquals(one, digest(2));
+		assertEquals(one, digest(5));
+	}
+}
@@ -0,0 +1,148 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: SelectionTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SelectionTest {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final long SEED = 19; // every draw is the same from run to run
+	private static final int DRAWS = 1000000;
+
+	//==========================================================================
+	// Expected chances
+	//==========================================================================
+
+	/**
+	 * expected --- The chance of every survivor of a pool with distinct life
+	 * force values to be drawn as a parent, worked out from the definition of
+	 * the method rather than from the alias table.
+	 * TOURNAMENT: the best of k draws (with replacement) is survivor i when
+	 * all k are at most as fit as i, but not all less fit: (F/n)^k - ((F-1)/n)^k,
+	 * F being the number of survivors at most as fit as i.
+	 * @param method = how parents are drawn
+	 * @param fitness = life force of every survivor, all different
+	 * @param k = survivors drawn per tournament
+	 * @return chance of every survivor
+	 */
+	static double[] expected(Selection.Method method, int[] fitness, int k) {
+		int n = fitness.length;
+		double[] chance = new double[n];
+		double total = 0;
+
+		for (int i = 0; i < n; i ++) {
+			int rank = 0; // survivors at most as fit as i, i included
+			for (int j = 0; j < n; j ++) {
+				if (fitness[j] <= fitness[i]) {
+					rank ++;
+				}
+			}
+			if (method == Selection.Method.TOURNAMENT) {
+				chance[i] = Math.pow((double) rank / n, k) - Math.pow((double) (rank - 1) / n, k);
+			}
+			else {
+				chance[i] = method == Selection.Method.RANK ? rank : fitness[i];
+			}
+			total += chance[i];
+		}
+		for (int i = 0; i < n; i ++) {
+			chance[i] /= total;
+		}
+		return chance;
+	}
+
+	/**
+	 * pool --- A parent pool of survivors with the given life force values.
+	 * @param method = how parents are drawn
+	 * @param fitness = life force of every survivor
+	 * @param k = survivors drawn per tournament
+	 * @return the prepared pool
+	 */
+	static Selection pool(Selection.Method method, int[] fitness, int k) {
+		CreatureStore survivors = new CreatureStore(fitness.length);
+		for (int i = 0; i < fitness.length; i ++) {
+			survivors.add(0, 0, fitness[i], i, i);
+		}
+		Selection selection = new Selection(method, k);
+		selection.prepare(survivors);
+		return selection;
+	}
+
+	/**
+	 * assertDistribution --- Draws many parents from a small pool and compares
+	 * how often each survivor came up with its expected chance.
+	 * @param method = how parents are drawn
+	 * @param k = survivors drawn per tournament
+	 * @return: none
+	 */
+	private static void assertDistribution(Selection.Method method, int k) {
+		int[] fitness = {3, 40, 7, 0, 25, 12, 1, 60, 18, 33};
+		double[] chance = expected(method, fitness, k);
+		Selection selection = pool(method, fitness, k);
+		RandomStream random = new RandomStream(SEED);
+
+		int[] count = new int[fitness.length];
+		for (int d = 0; d < DRAWS; d ++) {
+			count[selection.pick(random)] ++;
+		}
+
+		// Six standard deviations of the largest chance: never a false alarm
+		double tolerance = 6 * Math.sqrt(0.25 / DRAWS);
+		for (int i = 0; i < fitness.length; i ++) {
+			assertEquals(chance[i], (double) count[i] / DRAWS, tolerance, "share of survivor " + i);
+		}
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	@Test
+	public void roulette() {
+		assertDistribution(Selection.Method.ROULETTE, 1);
+	}
+
+	@Test
+	public void rank() {
+		assertDistribution(Selection.Method.RANK, 1);
+	}
+
+	@Test
+	public void tournament() {
+		assertDistribution(Selection.Method.TOURNAMENT, 1);
+		assertDistribution(Selection.Method.TOURNAMENT, 3);
+	}
+
+	/**
+	 * largeRanks --- Rank selection over a pool so large that rank times size
+	 * does not fit in an int. The mean rank drawn must be (2n + 1) / 3, as
+	 * when every survivor is drawn in proportion to its rank.
+	 */
+	@Test
+	public void largeRanks() {
+		int n = 70000;
+		int[] fitness = new int[n];
+		for (int i = 0; i < n; i ++) {
+			fitness[i] = i; // survivor i has rank i + 1
+		}
+		Selection selection = pool(Selection.Method.RANK, fitness, 1);
+		RandomStream random = new RandomStream(SEED);
+
+		double sum = 0;
+		for (int d = 0; d < DRAWS; d ++) {
+			sum += selection.pick(random) + 1;
+		}
+		double tolerance = 6 * n / Math.sqrt(18.0 * DRAWS); // rank drawn has a deviation of about n / sqrt(18)
+		assertEquals((2.0 * n + 1) / 3, sum / DRAWS, tolerance);
+	}
+}
@@ -0,0 +1,60 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: StateDigest.java
+//==========================================================================
+
+package gameoflife;
+
+import java.util.ArrayList;
+
+public class StateDigest implements SimulationObserver {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private World world;
+	private long digest; // everything seen so far, folded together
+
+	//==========================================================================
+	// StateDigest Constructor
+	//==========================================================================
+
+	/**
+	 * StateDigest --- Folds the state of a world after every step (position,
+	 * life force and genome of every creature, position of every monster) and
+	 * the fitness of every generation into one number, so two runs that
+	 * should be identical step for step can be compared by their digests.
+	 * @param world = the world of the engine this digest observes
+	 * @return: none
+	 */
+	public StateDigest(World world) {
+		this.world = world;
+	}
+
+	public void generationStarted(int generation) {
+	}
+
+	public void stepCompleted(int generation, int step) {
+		CreatureStore creatures = world.getCreatures();
+		long d = RandomStream.hash(digest, generation, step, creatures.size());
+		for (int i = 0; i < creatures.size(); i ++) {
+			d = RandomStream.hash(d, ((long) creatures.getRow(i) << 32) | creatures.getCol(i),
+					creatures.getEnergy(i), creatures.getGenome(i));
+		}
+		ArrayList<Monster> monsters = world.getMonsterList();
+		for (int m = 0; m < monsters.size(); m ++) {
+			d = RandomStream.hash(d, monsters.get(m).getRow(), monsters.get(m).getCol(), monsters.get(m).getTrackingNum());
+		}
+		digest = d;
+	}
+
+	public void generationCompleted(int generation, double averageLifeForce) {
+		digest = RandomStream.hash(digest, generation, Double.doubleToLongBits(averageLifeForce), 0);
+	}
+
+	public long getDigest() {
+		return digest;
+	}
+}
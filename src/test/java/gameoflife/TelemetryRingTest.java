@@ -0,0 +1,125 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TelemetryRingTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class TelemetryRingTest {
+
+	//==========================================================================
+	// Variables
+	//==========================================================================
+
+	private static final int PRODUCERS = 4;
+	private static final int RECORDS = 50000; // per producer
+
+	//==========================================================================
+	// Runs
+	//==========================================================================
+
+	/**
+	 * run --- Producers publish numbered records (producer, number, and a
+	 * check field) while one consumer polls. A producer whose record is
+	 * refused tries again, so every record is eventually published.
+	 * @param ring = the ring under test, three longs wide
+	 * @param refused = counts the refused claims
+	 * @return: none
+	 */
+	private static void run(TelemetryRing ring, AtomicLong refused) throws InterruptedException {
+		Thread[] producers = new Thread[PRODUCERS];
+		for (int p = 0; p < PRODUCERS; p ++) {
+			int producer = p;
+			producers[p] = new Thread(() -> {
+				for (int n = 0; n < RECORDS; n ++) {
+					long position;
+					while ((position = ring.claim()) < 0) {
+						refused.incrementAndGet();
+						Thread.yield();
+					}
+					ring.put(position, 0, producer);
+					ring.put(position, 1, n);
+					ring.put(position, 2, (long) producer * RECORDS + n);
+					ring.publish(position);
+				}
+			});
+			producers[p].start();
+		}
+
+		// The consumer: every producer's records arrive whole, once, in the order published
+		long[] record = new long[ring.getWidth()];
+		int[] next = new int[PRODUCERS];
+		long received = 0;
+		while (received < (long) PRODUCERS * RECORDS) {
+			if (!ring.poll(record)) {
+				Thread.yield();
+				continue;
+			}
+			int producer = (int) record[0];
+			assertEquals(next[producer], record[1], "record of producer " + producer);
+			assertEquals((long) producer * RECORDS + record[1], record[2], "fields of one record");
+			next[producer] ++;
+			received ++;
+		}
+		for (Thread producer : producers) {
+			producer.join();
+		}
+		assertFalse(ring.poll(record), "nothing left over");
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	/**
+	 * roomForEverything --- With room for every record nothing is dropped.
+	 */
+	@Test
+	public void roomForEverything() throws InterruptedException {
+		TelemetryRing ring = new TelemetryRing(PRODUCERS * RECORDS, 3);
+		AtomicLong refused = new AtomicLong();
+		run(ring, refused);
+		assertEquals(0, refused.get());
+		assertEquals(0, ring.getDropped());
+	}
+
+	/**
+	 * smallRing --- A ring much smaller than the records goes round many laps
+	 * and is often full; what it refuses is counted, and everything it
+	 * accepts arrives.
+	 */
+	@Test
+	public void smallRing() throws InterruptedException {
+		TelemetryRing ring = new TelemetryRing(8, 3);
+		AtomicLong refused = new AtomicLong();
+		run(ring, refused);
+		assertEquals(refused.get(), ring.getDropped());
+	}
+
+	@Test
+	public void fullRingDrops() {
+		TelemetryRing ring = new TelemetryRing(5, 1); // rounded up to 8
+		for (int k = 0; k < 8; k ++) {
+			long position = ring.claim();
+			assertEquals(k, position);
+			ring.put(position, 0, k);
+			ring.publish(position);
+		}
+		assertEquals(-1, ring.claim());
+		assertEquals(1, ring.getDropped());
+
+		long[] record = new long[1];
+		assertTrue(ring.poll(record));
+		assertEquals(0, record[0]);
+		assertEquals(8, ring.claim()); // the freed slot, one lap later
+	}
+}
@@ -0,0 +1,286 @@
+//==========================================================================
+// Author : Christian Yarros
+// Date : 10/18/2026
+// Class: TiledSimulationTest.java
+//==========================================================================
+
+package gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(300) // a tile that stops answering fails the test rather than hanging the build
+public class TiledSimulationTest {
+
+	//==========================================================================
+	// Ledger
+	//==========================================================================
+
+	/**
+	 * Ledger --- What every tile held after every step: the tracking numbers
+	 * of its creatures and monsters and the deaths on it so far this
+	 * generation, plus any creature or monster found outside its tile.
+	 */
+	static class Ledger {
+		private TileGrid grid;
+		private TreeMap<Long, int[][][]> steps = new TreeMap<Long, int[][][]>(); // per step, per tile: creatures, monsters, {deaths}
+		private ArrayList<String> strays = new ArrayList<String>();
+
+		Ledger(TileGrid grid) {
+			this.grid = grid;
+		}
+
+		/**
+		 * observer --- Records a worker's tile after every step. Runs on the
+		 * worker's thread and never throws, so a failure cannot hang the run.
+		 */
+		SimulationObserver observer(TileWorker worker) {
+			return new SimulationObserver() {
+				public void generationStarted(int generation) {
+					record(worker, generation, -1);
+				}
+
+				public void stepCompleted(int generation, int step) {
+					record(worker, generation, step);
+				}
+
+				public void generationCompleted(int generation, double averageLifeForce) {
+				}
+			};
+		}
+
+		private synchronized void record(TileWorker worker, int generation, int step) {
+			World world = worker.getWorld();
+			CreatureStore creatures = world.getCreatures();
+			int[] numbers = new int[creatures.size()];
+			for (int i = 0; i < creatures.size(); i ++) {
+				numbers[i] = creatures.getTrackingNumber(i);
+				if (!grid.owns(worker.getTile(), creatures.getRow(i), creatures.getCol(i))) {
+					strays.add("creature " + numbers[i] + " outside tile " + worker.getTile() + " at " + generation + "/" + step);
+				}
+			}
+			ArrayList<Monster> monsterList = world.getMonsterList();
+			int[] monsters = new int[monsterList.size()];
+			for (int m = 0; m < monsters.length; m ++) {
+				Monster monster = monsterList.get(m);
+				monsters[m] = monster.getTrackingNum();
+				if (!grid.owns(worker.getTile(), monster.getRow(), monster.getCol())) {
+					strays.add("monster " + monsters[m] + " outside tile " + worker.getTile() + " at " + generation + "/" + step);
+				}
+			}
+			int deaths = 0;
+			for (DeathCause cause : DeathCause.values()) {
+				deaths += world.getDeaths(cause);
+			}
+			int[][][] tiles = steps.computeIfAbsent(((long) generation << 32) + step + 1, k -> new int[grid.count()][][]);
+			tiles[worker.getTile()] = new int[][] {numbers, monsters, {deaths}};
+		}
+	}
+
+	//==========================================================================
+	// Runs
+	//==========================================================================
+
+	private static SimulationParameters params(int generations) {
+		SimulationParameters params = new SimulationParameters();
+		params.setSeed(7);
+		params.setRows(160);
+		params.setCols(160);
+		params.setCreaturePopulation(600);
+		params.setStrawberryPopulation(1200);
+		params.setMushroomPopulation(300);
+		params.setMonsterPopulation(30);
+		params.setGenerations(generations);
+		return params;
+	}
+
+	/**
+	 * run --- Runs every generation and collects the result: fitness of every
+	 * generation, then life force and genome of every final survivor.
+	 * @param tiled = the coordinator, its workers connected
+	 * @return the result
+	 */
+	private static long[] run(TiledSimulation tiled) throws IOException {
+		long[] fitness = new long[tiled.getWorld().getParameters().getGenerations()];
+		for (int g = 0; g < fitness.length; g ++) {
+			fitness[g] = Double.doubleToLongBits(tiled.runGeneration());
+		}
+		tiled.close();
+		return result(fitness, tiled.getWorld().getCreatures());
+	}
+
+	private static long[] result(long[] fitness, CreatureStore survivors) {
+		long[] result = Arrays.copyOf(fitness, fitness.length + 2 * survivors.size());
+		for (int i = 0; i < survivors.size(); i ++) {
+			result[fitness.length + 2 * i] = survivors.getEnergy(i);
+			result[fitness.length + 2 * i + 1] = survivors.getGenome(i);
+		}
+		return result;
+	}
+
+	/**
+	 * inProcess --- Runs on tiles whose workers are threads of this JVM,
+	 * connected over loopback sockets like worker processes would be.
+	 * @param params = parameters of the whole board
+	 * @param tileRows,tileCols = number of tiles down and across
+	 * @param ledger = records every worker's tile after every step, or null
+	 * @return the same as run
+	 */
+	private static long[] inProcess(SimulationParameters params, int tileRows, int tileCols, Ledger ledger) throws Exception {
+		TiledSimulation tiled = new TiledSimulation(params.copy(), tileRows, tileCols);
+		InetAddress loopback = InetAddress.getLoopbackAddress();
+		Thread[] workers = new Thread[tiled.getGrid().count()];
+		Throwable[] failure = new Throwable[1];
+		long[] result;
+
+		try (ServerSocket server = new ServerSocket(0, workers.length, loopback)) {
+			for (int t = 0; t < workers.length; t ++) {
+				workers[t] = new Thread(() -> {
+					TileLink coordinator = null;
+					try {
+						Socket socket = new Socket(loopback, server.getLocalPort());
+						coordinator = new TileLink(socket, "coordinator");
+						ServerSocket peers = new ServerSocket(0, 50, loopback);
+						DataOutputStream hello = coordinator.message();
+						hello.writeUTF(loopback.getHostAddress());
+						hello.writeInt(peers.getLocalPort());
+						coordinator.send();
+
+						TileWorker worker = new TileWorker(coordinator, peers);
+						if (ledger != null) {
+							worker.addObserver(ledger.observer(worker));
+						}
+						worker.run();
+					}
+					catch (Throwable e) {
+						synchronized (failure) {
+							if (failure[0] == null) {
+								failure[0] = e; // the first; the others fail because it did
+							}
+						}
+						try {
+							if (coordinator != null) {
+								coordinator.close(); // so the coordinator stops waiting for this tile
+							}
+						}
+						catch (IOException closing) {
+						}
+					}
+				});
+				workers[t].setDaemon(true); // the neighbours of a failed worker wait for it forever
+				workers[t].start();
+			}
+			tiled.accept(server);
+			result = run(tiled);
+		}
+		catch (IOException e) {
+			for (Thread worker : workers) {
+				worker.join(1000);
+			}
+			synchronized (failure) {
+				if (failure[0] != null) {
+					throw new AssertionError("worker failed", failure[0]);
+				}
+			}
+			throw e;
+		}
+		for (Thread worker : workers) {
+			worker.join(60000);
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw new AssertionError("worker failed", failure[0]);
+			}
+		}
+		return result;
+	}
+
+	//==========================================================================
+	// Tests
+	//==========================================================================
+
+	/**
+	 * oneTileIsOneBoard --- A single tile, in its own worker process, gives
+	 * the same fitness every generation and the same survivors as the
+	 * sequential engine on one board.
+	 */
+	@Test
+	public void oneTileIsOneBoard() throws IOException {
+		SimulationParameters params = params(4);
+		SimulationEngine engine = new SimulationEngine(new World(params.copy()));
+		long[] fitness = new long[params.getGenerations()];
+		for (int g = 0; g < fitness.length; g ++) {
+			fitness[g] = Double.doubleToLongBits(engine.runGeneration());
+		}
+		long[] single = result(fitness, engine.getWorld().getCreatures());
+
+		TiledSimulation tiled = new TiledSimulation(params.copy(), 1, 1);
+		tiled.launch();
+		assertArrayEquals(single, run(tiled));
+	}
+
+	/**
+	 * tilingRepeats --- Several tiles give the same result every time,
+	 * however the workers are scheduled.
+	 */
+	@Test
+	public void tilingRepeats() throws Exception {
+		SimulationParameters params = params(4);
+		assertArrayEquals(inProcess(params, 2, 2, null), inProcess(params, 2, 2, null));
+	}
+
+	/**
+	 * nothingLostOrDuplicated --- After every step of every generation, every
+	 * creature is either alive on exactly one tile or counted dead on one,
+	 * every monster is on exactly one tile, and nothing stands outside the
+	 * tile that holds it, however many cross tile edges.
+	 */
+	@Test
+	public void nothingLostOrDuplicated() throws Exception {
+		for (int[] tiling : new int[][] {{2, 2}, {3, 2}, {1, 4}}) {
+			SimulationParameters params = params(3);
+			params.setCreatureSight(2);
+			TileGrid grid = new TileGrid(params.getRows(), params.getCols(), tiling[0], tiling[1]);
+			Ledger ledger = new Ledger(grid);
+			inProcess(params, tiling[0], tiling[1], ledger);
+
+			String name = tiling[0] + "x" + tiling[1];
+			assertEquals(new ArrayList<String>(), ledger.strays, name);
+			assertEquals(params.getGenerations() * (params.getTime() + 1), ledger.steps.size(), name + " steps recorded");
+			for (long key : ledger.steps.keySet()) {
+				String step = name + " generation " + (key >> 32) + " step " + ((key & 0xFFFFFFFFL) - 1);
+				HashSet<Integer> creatures = new HashSet<Integer>();
+				HashSet<Integer> monsters = new HashSet<Integer>();
+				int live = 0;
+				int deaths = 0;
+				for (int[][] tile : ledger.steps.get(key)) {
+					assertTrue(tile != null, step + ": a tile did not report");
+					for (int number : tile[0]) {
+						assertTrue(creatures.add(number), step + ": creature " + number + " on two tiles");
+					}
+					for (int number : tile[1]) {
+						assertTrue(monsters.add(number), step + ": monster " + number + " on two tiles");
+					}
+					live += tile[0].length;
+					deaths += tile[2][0];
+				}
+				assertEquals(params.getCreaturePopulation(), live + deaths, step + ": creatures alive and dead");
+				assertEquals(params.getMonsterPopulation(), monsters.size(), step + ": monsters");
+			}
+		}
+	}
+}